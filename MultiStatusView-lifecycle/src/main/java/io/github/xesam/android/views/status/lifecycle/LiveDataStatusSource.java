@@ -0,0 +1,39 @@
+package io.github.xesam.android.views.status.lifecycle;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.LiveData;
+
+import io.github.xesam.android.views.status.StatusSource;
+
+/**
+ * 以LiveData作为状态数据源，订阅时会立即回调LiveData的当前值
+ */
+public final class LiveDataStatusSource implements StatusSource {
+
+    private final LiveData<String> liveData;
+
+    public LiveDataStatusSource(@NonNull LiveData<String> liveData) {
+        this.liveData = liveData;
+    }
+
+    @NonNull
+    @Override
+    public Subscription subscribe(@NonNull final Observer observer) {
+        // StatusSource.Observer与LiveData的Observer同名，这里使用全限定名
+        final androidx.lifecycle.Observer<String> liveDataObserver = new androidx.lifecycle.Observer<String>() {
+            @Override
+            public void onChanged(String status) {
+                if (status != null) {
+                    observer.onStatus(status);
+                }
+            }
+        };
+        liveData.observeForever(liveDataObserver);
+        return new Subscription() {
+            @Override
+            public void cancel() {
+                liveData.removeObserver(liveDataObserver);
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.xesam.android.views.status.lifecycle;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.lifecycle.DefaultLifecycleObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import io.github.xesam.android.views.status.MultiStatusHelper;
+import io.github.xesam.android.views.status.MultiStatusView;
+import io.github.xesam.android.views.status.StatusBinding;
+import io.github.xesam.android.views.status.StatusSource;
+
+/**
+ * 跟随页面生命周期绑定状态数据源：STARTED及以上时订阅，低于STARTED时取消订阅，DESTROYED时解除绑定
+ */
+public final class StatusLifecycle {
+
+    private StatusLifecycle() {
+    }
+
+    @MainThread
+    @NonNull
+    public static StatusBinding bind(@NonNull LifecycleOwner owner, @NonNull MultiStatusView view, @NonNull StatusSource source) {
+        return bind(owner, view.createStatusBinding(source));
+    }
+
+    @MainThread
+    @NonNull
+    public static StatusBinding bind(@NonNull LifecycleOwner owner, @NonNull MultiStatusHelper helper, @NonNull StatusSource source) {
+        return bind(owner, helper.createStatusBinding(source));
+    }
+
+    private static StatusBinding bind(@NonNull LifecycleOwner owner, @NonNull final StatusBinding binding) {
+        owner.getLifecycle().addObserver(new DefaultLifecycleObserver() {
+            @Override
+            public void onStart(@NonNull LifecycleOwner owner) {
+                binding.start();
+            }
+
+            @Override
+            public void onStop(@NonNull LifecycleOwner owner) {
+                binding.stop();
+            }
+
+            @Override
+            public void onDestroy(@NonNull LifecycleOwner owner) {
+                binding.unbind();
+                owner.getLifecycle().removeObserver(this);
+            }
+        });
+        return binding;
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.xesam.android.views.status.registry;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+/**
+ * 扫描布局XML中的MultiStatusView容器，为每个布局生成一个状态注册表类
+ * <p>
+ * 子视图的状态名与运行时自动发现的规则一致：优先读取 app:layout_status，否则按 app:statusIdPrefix 匹配ID。
+ * 同一容器内状态重复、声明了状态名却没有ID、以及 app:autoDiscover="false" 时找不到默认状态，均会导致构建失败
+ */
+@CacheableTask
+public abstract class GenerateStatusRegistriesTask extends DefaultTask {
+
+    private static final String ANDROID_NS = "http://schemas.android.com/apk/res/android";
+    private static final String APP_NS = "http://schemas.android.com/apk/res-auto";
+    private static final String CONTAINER_SUFFIX = "MultiStatusView";
+    private static final String DEFAULT_STATUS_ID_PREFIX = "status_";
+    private static final String DEFAULT_STATUS = "content";
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getResDirectories();
+
+    @Input
+    public abstract Property<String> getPackageName();
+
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    @TaskAction
+    public void generate() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+
+        // 布局名 -> (容器字段名 -> 状态表)，不同配置目录下的同名布局必须一致
+        Map<String, Map<String, Map<String, String>>> layouts = new TreeMap<>();
+        for (File resDir : getResDirectories().getFiles()) {
+            File[] layoutDirs = resDir.listFiles(dir -> dir.isDirectory()
+                    && (dir.getName().equals("layout") || dir.getName().startsWith("layout-")));
+            if (layoutDirs == null) continue;
+            Arrays.sort(layoutDirs);
+            for (File layoutDir : layoutDirs) {
+                File[] files = layoutDir.listFiles(file -> file.getName().endsWith(".xml"));
+                if (files == null) continue;
+                Arrays.sort(files);
+                for (File file : files) {
+                    String layoutName = file.getName().substring(0, file.getName().length() - 4);
+                    String location = layoutDir.getName() + "/" + file.getName();
+                    Map<String, Map<String, String>> containers = scanLayout(builder.parse(file), location);
+                    if (containers.isEmpty()) continue;
+                    Map<String, Map<String, String>> existing = layouts.get(layoutName);
+                    if (existing == null) {
+                        layouts.put(layoutName, containers);
+                    } else if (!existing.equals(containers)) {
+                        throw new GradleException("Statuses in " + location + " differ from other configurations of layout " + layoutName);
+                    }
+                }
+            }
+        }
+
+        File outputDir = getOutputDirectory().get().getAsFile();
+        String packageName = getPackageName().get();
+        File packageDir = new File(outputDir, packageName.replace('.', File.separatorChar));
+        clearDirectory(outputDir);
+        if (layouts.isEmpty()) return;
+        Files.createDirectories(packageDir.toPath());
+        for (Map.Entry<String, Map<String, Map<String, String>>> entry : layouts.entrySet()) {
+            String className = toCamelCase(entry.getKey()) + "StatusRegistry";
+            try (Writer writer = Files.newBufferedWriter(new File(packageDir, className + ".java").toPath(), StandardCharsets.UTF_8)) {
+                writer.write(render(packageName, className, entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    static Map<String, Map<String, String>> scanLayout(Document document, String location) {
+        List<Element> containers = new ArrayList<>();
+        collectContainers(document.getDocumentElement(), containers);
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (Element container : containers) {
+            String field;
+            if (containers.size() == 1) {
+                field = "REGISTRY";
+            } else {
+                String containerId = idName(container);
+                if (containerId == null) {
+                    throw new GradleException(location + ": every " + container.getTagName()
+                            + " needs an android:id when a layout contains more than one container");
+                }
+                field = containerId.toUpperCase(Locale.ROOT);
+            }
+            result.put(field, scanContainer(container, location));
+        }
+        return result;
+    }
+
+    private static void collectContainers(Element element, List<Element> out) {
+        if (element.getTagName().endsWith(CONTAINER_SUFFIX)) {
+            out.add(element);
+        }
+        for (Element child : childElements(element)) {
+            collectContainers(child, out);
+        }
+    }
+
+    /**
+     * 返回 状态名 -> 子视图ID的Java引用（R.id.xxx 或 android.R.id.xxx）
+     */
+    private static Map<String, String> scanContainer(Element container, String location) {
+        String prefix = attr(container, APP_NS, "statusIdPrefix", DEFAULT_STATUS_ID_PREFIX);
+        Map<String, String> statuses = new LinkedHashMap<>();
+        for (Element child : childElements(container)) {
+            String idName = idName(child);
+            String status = attr(child, APP_NS, "layout_status", null);
+            if (status != null) {
+                if (idName == null) {
+                    throw new GradleException(location + ": child with app:layout_status=\"" + status + "\" has no android:id");
+                }
+            } else if (idName != null && idName.startsWith(prefix)) {
+                status = idName.substring(prefix.length());
+                if (status.isEmpty()) {
+                    throw new GradleException(location + ": view id " + idName + " has no status name after prefix " + prefix);
+                }
+            } else {
+                continue;
+            }
+            String idReference = idReference(child, location);
+            if (statuses.containsKey(status)) {
+                throw new GradleException(location + ": duplicate status \"" + status + "\" ("
+                        + statuses.get(status) + ", " + idReference + ")");
+            }
+            statuses.put(status, idReference);
+        }
+
+        boolean autoDiscover = !"false".equals(attr(container, APP_NS, "autoDiscover", "true"));
+        String defaultStatus = attr(container, APP_NS, "defaultStatus", DEFAULT_STATUS);
+        if (!autoDiscover && !statuses.isEmpty() && !statuses.containsKey(defaultStatus)) {
+            throw new GradleException(location + ": default status \"" + defaultStatus + "\" is missing, expected a child with id "
+                    + prefix + defaultStatus + " or app:layout_status=\"" + defaultStatus + "\"");
+        }
+        return statuses;
+    }
+
+    private static List<Element> childElements(Element parent) {
+        List<Element> children = new ArrayList<>();
+        NodeList nodes = parent.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                children.add((Element) node);
+            }
+        }
+        return children;
+    }
+
+    private static String idName(Element element) {
+        String id = attr(element, ANDROID_NS, "id", null);
+        if (id == null) return null;
+        int slash = id.indexOf('/');
+        return slash < 0 ? null : id.substring(slash + 1);
+    }
+
+    /**
+     * 生成代码中使用的ID引用，框架ID（@android:id/xxx）引用android.R，不支持的ID形式会导致构建失败
+     */
+    private static String idReference(Element element, String location) {
+        String id = attr(element, ANDROID_NS, "id", null);
+        String name = idName(element);
+        if (id.startsWith("@+id/") || id.startsWith("@id/")) {
+            return "R.id." + name;
+        }
+        if (id.startsWith("@android:id/")) {
+            return "android.R.id." + name;
+        }
+        throw new GradleException(location + ": unsupported view id " + id);
+    }
+
+    private static String attr(Element element, String namespace, String name, String fallback) {
+        return element.hasAttributeNS(namespace, name) ? element.getAttributeNS(namespace, name) : fallback;
+    }
+
+    static String render(String packageName, String className, String layoutName,
+                                 Map<String, Map<String, String>> containers) {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated from layout/").append(layoutName).append(".xml, do not edit.\n");
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import io.github.xesam.android.views.status.StatusRegistry;\n\n");
+        out.append("public final class ").append(className).append(" {\n\n");
+        for (Map.Entry<String, Map<String, String>> container : containers.entrySet()) {
+            StringBuilder names = new StringBuilder();
+            StringBuilder ids = new StringBuilder();
+            for (Map.Entry<String, String> status : container.getValue().entrySet()) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                    ids.append(", ");
+                }
+                names.append('"').append(status.getKey().replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+                ids.append(status.getValue());
+            }
+            out.append("    public static final StatusRegistry ").append(container.getKey()).append(" = new StatusRegistry(\n");
+            out.append("            new String[]{").append(names).append("},\n");
+            out.append("            new int[]{").append(ids).append("});\n\n");
+        }
+        out.append("    private ").append(className).append("() {\n    }\n}\n");
+        return out.toString();
+    }
+
+    private static String toCamelCase(String layoutName) {
+        StringBuilder out = new StringBuilder();
+        boolean upper = true;
+        for (char c : layoutName.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                out.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return out.toString();
+    }
+
+    private static void clearDirectory(File dir) throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) return;
+        for (File child : children) {
+            clearDirectory(child);
+            Files.delete(child.toPath());
+        }
+    }
+}
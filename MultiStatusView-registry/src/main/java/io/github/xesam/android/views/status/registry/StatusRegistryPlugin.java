@@ -0,0 +1,46 @@
+package io.github.xesam.android.views.status.registry;
+
+import com.android.build.api.variant.AndroidComponentsExtension;
+import com.android.build.api.variant.SourceDirectories;
+import com.android.build.api.variant.Variant;
+
+import org.gradle.api.Action;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.tasks.TaskProvider;
+
+/**
+ * 为Android模块注册状态注册表生成任务，生成的源码会自动加入对应变体的编译
+ */
+public class StatusRegistryPlugin implements Plugin<Project> {
+
+    @Override
+    public void apply(Project project) {
+        project.getPluginManager().withPlugin("com.android.application", plugin -> configure(project));
+        project.getPluginManager().withPlugin("com.android.library", plugin -> configure(project));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void configure(Project project) {
+        AndroidComponentsExtension components = project.getExtensions().getByType(AndroidComponentsExtension.class);
+        components.onVariants(components.selector().all(), (Action<Variant>) variant -> configureVariant(project, variant));
+    }
+
+    private void configureVariant(Project project, Variant variant) {
+        String taskName = "generate" + capitalize(variant.getName()) + "StatusRegistries";
+        TaskProvider<GenerateStatusRegistriesTask> task = project.getTasks().register(taskName, GenerateStatusRegistriesTask.class, t -> {
+            if (variant.getSources().getRes() != null) {
+                t.getResDirectories().from(variant.getSources().getRes().getAll());
+            }
+            t.getPackageName().set(variant.getNamespace());
+        });
+        SourceDirectories.Flat java = variant.getSources().getJava();
+        if (java != null) {
+            java.addGeneratedSourceDirectory(task, GenerateStatusRegistriesTask::getOutputDirectory);
+        }
+    }
+
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.xesam.android.views.status.registry;
+
+import org.gradle.api.GradleException;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class GenerateStatusRegistriesTaskTest {
+
+    private static final String HEADER = "<io.github.xesam.android.views.status.MultiStatusView"
+            + " xmlns:android=\"http://schemas.android.com/apk/res/android\""
+            + " xmlns:app=\"http://schemas.android.com/apk/res-auto\"";
+    private static final String FOOTER = "</io.github.xesam.android.views.status.MultiStatusView>";
+
+    @Test
+    public void scanLayout_matchesPrefixAndLayoutStatus() throws Exception {
+        Map<String, Map<String, String>> containers = scan(HEADER + ">"
+                + "<View android:id=\"@+id/status_content\"/>"
+                + "<View android:id=\"@+id/progress\" app:layout_status=\"loading\"/>"
+                + "<View android:id=\"@+id/other\"/>"
+                + FOOTER);
+
+        Map<String, String> statuses = containers.get("REGISTRY");
+        assertEquals(2, statuses.size());
+        assertEquals("R.id.status_content", statuses.get("content"));
+        assertEquals("R.id.progress", statuses.get("loading"));
+    }
+
+    @Test
+    public void scanLayout_frameworkIdUsesAndroidR() throws Exception {
+        Map<String, Map<String, String>> containers = scan(HEADER + ">"
+                + "<View android:id=\"@android:id/empty\" app:layout_status=\"empty\"/>"
+                + FOOTER);
+
+        assertEquals("android.R.id.empty", containers.get("REGISTRY").get("empty"));
+    }
+
+    @Test
+    public void scanLayout_duplicateStatusFails() throws Exception {
+        assertScanFails(HEADER + ">"
+                + "<View android:id=\"@+id/status_error\"/>"
+                + "<View android:id=\"@+id/failure\" app:layout_status=\"error\"/>"
+                + FOOTER, "duplicate status \"error\"");
+    }
+
+    @Test
+    public void scanLayout_missingDefaultFailsWithoutAutoDiscover() throws Exception {
+        assertScanFails(HEADER + " app:autoDiscover=\"false\" app:defaultStatus=\"content\">"
+                + "<View android:id=\"@+id/status_loading\"/>"
+                + FOOTER, "default status \"content\" is missing");
+    }
+
+    @Test
+    public void scanLayout_missingDefaultAllowedWithAutoDiscover() throws Exception {
+        Map<String, Map<String, String>> containers = scan(HEADER + ">"
+                + "<View android:id=\"@+id/status_loading\"/>"
+                + FOOTER);
+
+        assertEquals(1, containers.get("REGISTRY").size());
+    }
+
+    @Test
+    public void scanLayout_layoutStatusWithoutIdFails() throws Exception {
+        assertScanFails(HEADER + ">"
+                + "<View app:layout_status=\"loading\"/>"
+                + FOOTER, "has no android:id");
+    }
+
+    @Test
+    public void render_emitsIdReferences() throws Exception {
+        String source = GenerateStatusRegistriesTask.render("com.example", "MainStatusRegistry", "main", scan(HEADER + ">"
+                + "<View android:id=\"@+id/status_content\"/>"
+                + "<View android:id=\"@android:id/empty\" app:layout_status=\"empty\"/>"
+                + FOOTER));
+
+        assertTrue(source.contains("package com.example;"));
+        assertTrue(source.contains("public static final StatusRegistry REGISTRY = new StatusRegistry("));
+        assertTrue(source.contains("new String[]{\"content\", \"empty\"}"));
+        assertTrue(source.contains("new int[]{R.id.status_content, android.R.id.empty}"));
+    }
+
+    private static Map<String, Map<String, String>> scan(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+        return GenerateStatusRegistriesTask.scanLayout(document, "layout/test.xml");
+    }
+
+    private static void assertScanFails(String xml, String message) throws Exception {
+        try {
+            scan(xml);
+            fail("Expected GradleException containing: " + message);
+        } catch (GradleException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+}
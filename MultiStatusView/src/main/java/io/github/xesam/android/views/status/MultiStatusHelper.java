@@ -1,22 +1,40 @@
 package io.github.xesam.android.views.status;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.SparseIntArray;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewStub;
 
+import androidx.annotation.AnyThread;
 import androidx.annotation.IdRes;
 import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.github.xesam.android.status.R;
 
@@ -29,17 +47,84 @@ public class MultiStatusHelper {
 
     private static final String TAG = "MultiStatusHelper";
     private static final String DEFAULT_STATUS_ID_PREFIX = "status_";
+    private static final OnStatusChangeListener[] EMPTY_LISTENERS = new OnStatusChangeListener[0];
+    private static final OnStatusVisibilityListener[] EMPTY_VISIBILITY_LISTENERS = new OnStatusVisibilityListener[0];
 
     // 配置参数
     private String statusIdPrefix = DEFAULT_STATUS_ID_PREFIX;
     private String defaultStatus = "content";
     private boolean debugMode = false;
+    private boolean autoDiscover = true;
+    private boolean coalesceStatusChanges = false;
+    private StatusSwitchStrategy switchStrategy = StatusSwitchStrategy.GONE;
 
     // 状态管理
-    private final Map<String, View> statusViews = new HashMap<>();
-    private final List<OnStatusChangeListener> statusChangeListeners = new ArrayList<>();
-    private String currentStatus = "";
+    // 以StatusKey的id为下标保存，切换状态时无需哈希查找
+    private final StatusTable<View> statusViews = new StatusTable<>();
+    private final StatusTable<LayoutStatus> layoutStatuses = new StatusTable<>();
+    // 按注册顺序保存的所有状态（包括尚未膨胀的状态）
+    private final StatusTable<StatusKey> registeredStatuses = new StatusTable<>();
+    // 写时复制：增删监听器时替换整个数组，分发时遍历当时的数组快照
+    private OnStatusChangeListener[] statusChangeListeners = EMPTY_LISTENERS;
+    private OnStatusVisibilityListener[] statusVisibilityListeners = EMPTY_VISIBILITY_LISTENERS;
+    // 可在任意线程读取
+    private volatile StatusKey currentStatus;
     private View currentView = null;
+    // 叠加显示在当前状态之上的状态，以StatusKey的id为下标
+    private final BitSet activeOverlays = new BitSet();
+    // 状态的层级，值大的显示在上层，默认为0；层级相同时叠加状态位于主状态之上
+    private final SparseIntArray statusZOrders = new SparseIntArray();
+    // 等待异步膨胀完成后再切换的状态
+    @Nullable
+    private StatusKey queuedStatus = null;
+
+    // 合并切换：同一帧内或事务中只应用最后一次请求的状态
+    @Nullable
+    private StatusKey pendingStatus = null;
+    private int transactionDepth = 0;
+    private boolean frameScheduled = false;
+    private final Choreographer.FrameCallback applyPendingFrame = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            frameScheduled = false;
+            flushPendingStatus();
+        }
+    };
+
+    // 非主线程发起的切换：只保存最新的目标状态，同一时间最多只有一个待执行的主线程消息
+    private final AtomicReference<StatusKey> offThreadStatus = new AtomicReference<>();
+    private final Runnable offThreadStatusApply = new Runnable() {
+        @Override
+        public void run() {
+            StatusKey status = offThreadStatus.getAndSet(null);
+            if (status != null) {
+                setStatus(status);
+            }
+        }
+    };
+
+    // 防闪烁：按状态配置的显示延迟与最短显示时间，由同一个Runnable调度
+    private final StatusTable<StatusTiming> statusTimings = new StatusTable<>();
+    @Nullable
+    private StatusKey timedStatus = null;
+    private long timedStatusDeadline = 0;
+    private long currentShownTime = 0;
+    // 容器分离期间暂停的延迟状态及其剩余等待时间
+    private boolean timedStatusSuspended = false;
+    private long timedStatusRemaining = 0;
+    private final Runnable timedStatusApply = new Runnable() {
+        @Override
+        public void run() {
+            StatusKey status = timedStatus;
+            timedStatus = null;
+            if (status != null) {
+                switchStatus(status);
+            }
+        }
+    };
+
+    @Nullable
+    private OnSwitchLayoutListener switchLayoutListener;
 
     // 异常处理
     private OnStatusNotFoundListener onStatusNotFoundListener;
@@ -49,6 +134,47 @@ public class MultiStatusHelper {
     private final ViewGroup containerView;
     private final Context context;
 
+    // 追踪计数器名称，首次上报时生成
+    @Nullable
+    private String currentStatusCounter;
+    @Nullable
+    private String residentCounter;
+
+    // 视图池，为null时不复用视图
+    @Nullable
+    private StatusViewPool viewPool;
+
+    // 驻留策略：非当前状态的最大驻留数量与空闲超时，<=0表示不限制
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Set<StatusKey> pinnedStatuses = new HashSet<>();
+    private boolean residencyEnabled = false;
+    private int maxResidentStatuses = 0;
+    private long residencyTimeoutMillis = 0;
+    private final Runnable residencySweep = new Runnable() {
+        @Override
+        public void run() {
+            enforceResidency();
+        }
+    };
+
+    // 状态切换预测，为null时不预取
+    @Nullable
+    private StatusTransitionModel transitionModel;
+
+    // 空闲预热
+    private final List<StatusKey> prewarmQueue = new ArrayList<>();
+    private final List<String> prewarmedStatuses = new ArrayList<>();
+    private boolean prewarmScheduled = false;
+    private OnPrewarmListener onPrewarmListener;
+    private final MessageQueue.IdleHandler prewarmIdleHandler = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            prewarmNext();
+            prewarmScheduled = !prewarmQueue.isEmpty();
+            return prewarmScheduled;
+        }
+    };
+
     /**
      * 状态未找到监听器接口
      */
@@ -63,6 +189,22 @@ public class MultiStatusHelper {
         void onError(Exception exception);
     }
 
+    /**
+     * 状态预热完成监听器接口
+     */
+    public interface OnPrewarmListener {
+        void onStatusPrewarmed(String status);
+    }
+
+    /**
+     * 状态切换期间的容器回调，容器可以在切换结束后自行处理切换引起的布局请求
+     */
+    interface OnSwitchLayoutListener {
+        void onSwitchStart();
+
+        void onSwitchEnd();
+    }
+
     /**
      * 布局资源创建回调接口
      */
@@ -70,11 +212,50 @@ public class MultiStatusHelper {
         void onViewCreated(View view);
     }
 
+    /**
+     * 通过布局资源注册的状态：保存布局资源与回调，以便按需膨胀或从视图池重新获取
+     * view为null表示尚未膨胀（延迟注册）或视图已归还到视图池
+     */
+    private static final class LayoutStatus {
+        @LayoutRes
+        final int layoutRes;
+        @Nullable
+        final OnViewCreatedListener onViewCreated;
+        @Nullable
+        View view;
+        // 是否正在后台线程膨胀
+        boolean inflating;
+        // XML中声明的ViewStub，首次膨胀时原位替换，之后置为null
+        @Nullable
+        ViewStub stub;
+        // ViewStub膨胀出的视图的布局参数与ID（android:inflatedId），视图被释放后重新获取时沿用
+        @Nullable
+        ViewGroup.LayoutParams layoutParams;
+        int viewId = View.NO_ID;
+        // 最近一次膨胀或被切走的时间，用于LRU回收
+        long lastUsedTime;
+
+        LayoutStatus(@LayoutRes int layoutRes, @Nullable OnViewCreatedListener onViewCreated) {
+            this.layoutRes = layoutRes;
+            this.onViewCreated = onViewCreated;
+        }
+    }
+
+    /**
+     * 状态的防闪烁时间配置
+     */
+    private static final class StatusTiming {
+        // 请求切换到该状态后，等待多久才真正显示
+        long showDelayMillis;
+        // 显示后至少保持多久才允许切走
+        long minDisplayMillis;
+    }
+
     public MultiStatusHelper(@NonNull ViewGroup containerView, @Nullable Context context, @Nullable AttributeSet attrs) {
         this.containerView = containerView;
         this.context = context != null ? context : containerView.getContext();
         initAttributes(attrs);
-        currentStatus = defaultStatus;
+        currentStatus = StatusKey.of(defaultStatus);
         if (debugMode) {
             Log.d(TAG, "Initialized with default status: " + defaultStatus);
         }
@@ -98,6 +279,34 @@ public class MultiStatusHelper {
                 }
 
                 debugMode = typedArray.getBoolean(R.styleable.MultiStatusView_debugMode, false);
+
+                autoDiscover = typedArray.getBoolean(R.styleable.MultiStatusView_autoDiscover, true);
+
+                coalesceStatusChanges = typedArray.getBoolean(R.styleable.MultiStatusView_coalesceStatusChanges, false);
+
+                switch (typedArray.getInt(R.styleable.MultiStatusView_switchStrategy, 0)) {
+                    case 1:
+                        switchStrategy = StatusSwitchStrategy.INVISIBLE;
+                        break;
+                    case 2:
+                        switchStrategy = StatusSwitchStrategy.DETACH;
+                        break;
+                    case 3:
+                        switchStrategy = StatusSwitchStrategy.ALPHA;
+                        break;
+                    case 4:
+                        switchStrategy = StatusTransition.crossfade();
+                        break;
+                    case 5:
+                        switchStrategy = StatusTransition.fadeThrough();
+                        break;
+                    case 6:
+                        switchStrategy = StatusTransition.slide();
+                        break;
+                    default:
+                        switchStrategy = StatusSwitchStrategy.GONE;
+                        break;
+                }
             } finally {
                 typedArray.recycle();
             }
@@ -106,11 +315,23 @@ public class MultiStatusHelper {
 
     /**
      * 自动发现子视图机制（XML内嵌方式）
-     * 遍历所有直接子视图，根据ID前缀和状态名进行匹配
+     * 遍历所有直接子视图，优先读取布局参数中声明的状态名（app:layout_status），否则根据ID前缀和状态名进行匹配
+     * 匹配的ViewStub会注册为延迟状态，首次切换到该状态时才原位膨胀
+     * app:autoDiscover="false" 时跳过，由 {@link #registerStatuses(StatusRegistry)} 完成注册
      */
     public void autoDiscoverChildViews() {
-        if (containerView.getChildCount() == 0) return;
+        if (!autoDiscover || containerView.getChildCount() == 0) return;
+
+        boolean traced = StatusTrace.begin(StatusTrace.SECTION_DISCOVER);
+        try {
+            discoverChildViews();
+        } finally {
+            StatusTrace.end(traced);
+        }
+        traceCounters();
+    }
 
+    private void discoverChildViews() {
         if (debugMode) {
             Log.d(TAG, "Auto-discovering child views with prefix: " + statusIdPrefix);
         }
@@ -121,26 +342,23 @@ public class MultiStatusHelper {
             View child = containerView.getChildAt(i);
             int viewId = child.getId();
 
-            if (viewId != View.NO_ID) {
-                try {
-                    String idResName = context.getResources().getResourceName(viewId);
-                    String idName = idResName.substring(idResName.indexOf('/') + 1);
-
-                    if (debugMode) {
-                        Log.d(TAG, "Resource name: " + idResName + ", idName: " + idName);
-                    }
+            // 布局参数中声明了状态名时直接使用，子视图无需ID
+            ViewGroup.LayoutParams params = child.getLayoutParams();
+            String declaredStatus = params instanceof StatusLayoutParams ? ((StatusLayoutParams) params).getStatus() : null;
+            if (declaredStatus != null) {
+                childViews.put(declaredStatus, child);
 
-                    if (idName.startsWith(statusIdPrefix)) {
-                        String statusName = idName.substring(statusIdPrefix.length());
-                        childViews.put(statusName, child);
+                if (debugMode) {
+                    Log.d(TAG, "Discovered declared status view: " + declaredStatus);
+                }
+            } else if (viewId != View.NO_ID) {
+                // 通过进程级缓存解析，同一布局重复膨胀时无需再次查询资源名称
+                String statusName = StatusIdCache.resolve(context.getResources(), viewId, statusIdPrefix);
+                if (statusName != null) {
+                    childViews.put(statusName, child);
 
-                        if (debugMode) {
-                            Log.d(TAG, "Discovered status view: " + statusName);
-                        }
-                    }
-                } catch (Exception e) {
                     if (debugMode) {
-                        Log.w(TAG, "Failed to get resource name for view ID: " + viewId, e);
+                        Log.d(TAG, "Discovered status view: " + statusName);
                     }
                 }
             }
@@ -148,20 +366,30 @@ public class MultiStatusHelper {
 
         // 注册发现的状态视图
         for (Map.Entry<String, View> entry : childViews.entrySet()) {
-            registerStatusInternal(entry.getKey(), entry.getValue());
+            StatusKey status = StatusKey.of(entry.getKey());
+            if (entry.getValue() instanceof ViewStub) {
+                registerStubInternal(status, (ViewStub) entry.getValue());
+            } else {
+                registerStatusInternal(status, entry.getValue());
+            }
         }
     }
 
     /**
      * 注册状态视图（内部方法）
      */
-    private void registerStatusInternal(String status, View view) {
+    private void registerStatusInternal(StatusKey status, View view) {
         statusViews.put(status, view);
-        if (status.equals(currentStatus)) {
-            view.setVisibility(View.VISIBLE);
+        registeredStatuses.put(status, status);
+        if (status == currentStatus) {
+            switchStrategy.show(containerView, view);
+            if (currentView != view) {
+                // 初始状态的视图从此刻开始显示，最短显示时间由此计算
+                currentShownTime = SystemClock.uptimeMillis();
+            }
             currentView = view;
-        } else {
-            view.setVisibility(View.GONE);
+        } else if (!isActiveView(view)) {
+            switchStrategy.hide(containerView, view);
         }
 
         if (debugMode) {
@@ -169,15 +397,79 @@ public class MultiStatusHelper {
         }
     }
 
+    /**
+     * 注册ViewStub为延迟状态（内部方法）
+     */
+    private void registerStubInternal(StatusKey status, ViewStub stub) {
+        LayoutStatus layoutStatus = new LayoutStatus(stub.getLayoutResource(), null);
+        layoutStatus.stub = stub;
+        putLayoutStatus(status, layoutStatus);
+
+        if (debugMode) {
+            Log.d(TAG, "Registered stub status: " + status);
+        }
+
+        if (status == currentStatus) {
+            inflateLayoutStatus(status);
+        }
+    }
+
+    /**
+     * 记录布局资源方式注册的状态（内部方法）
+     */
+    private void putLayoutStatus(StatusKey status, LayoutStatus layoutStatus) {
+        layoutStatuses.put(status, layoutStatus);
+        registeredStatuses.put(status, status);
+    }
+
     /**
      * 模式2：资源ID方式 - 注册已存在的视图
      */
     @NonNull
     public MultiStatusHelper registerStatus(String status, View view) {
-        registerStatusInternal(status, view);
+        StatusKey key = StatusKey.of(status);
+        layoutStatuses.remove(key);
+        registerStatusInternal(key, view);
+        return this;
+    }
+
+    /**
+     * 模式1：XML内嵌方式 - 按构建时生成的注册表注册子视图，无需运行时解析资源名称
+     * 注册表中的ViewStub同样注册为延迟状态；与自动发现一致，只匹配容器的直接子视图
+     */
+    @NonNull
+    public MultiStatusHelper registerStatuses(@NonNull StatusRegistry registry) {
+        for (int i = 0; i < registry.size(); i++) {
+            int viewId = registry.getViewId(i);
+            View view = findDirectChild(viewId);
+            if (view == null) {
+                throw new IllegalArgumentException("View with ID " + viewId + " not found for status " + registry.getStatus(i));
+            }
+            StatusKey status = StatusKey.of(registry.getStatus(i));
+            if (view instanceof ViewStub) {
+                registerStubInternal(status, (ViewStub) view);
+            } else {
+                layoutStatuses.remove(status);
+                registerStatusInternal(status, view);
+            }
+        }
         return this;
     }
 
+    /**
+     * 查找指定ID的直接子视图，不搜索更深的层级，避免匹配到其他状态内部的同ID视图
+     */
+    @Nullable
+    private View findDirectChild(@IdRes int viewId) {
+        for (int i = 0; i < containerView.getChildCount(); i++) {
+            View child = containerView.getChildAt(i);
+            if (child.getId() == viewId) {
+                return child;
+            }
+        }
+        return null;
+    }
+
     /**
      * 模式2：资源ID方式 - 通过视图ID注册
      */
@@ -199,31 +491,11 @@ public class MultiStatusHelper {
     }
 
     /**
-     * 注册布局资源（简化方法，无缓存逻辑）
+     * 注册布局资源，等价于 {@link #registerStatusByLayoutLazy(String, int)}
      */
     @NonNull
     public MultiStatusHelper registerLayoutResource(@NonNull String status, @LayoutRes int layoutResource) {
-        if (debugMode) {
-            Log.d(TAG, "Registering layout resource: " + status + " -> " + layoutResource);
-        }
-
-        try {
-            View view = LayoutInflater.from(context).inflate(layoutResource, containerView, false);
-            statusViews.put(status, view);
-
-            if (debugMode) {
-                Log.d(TAG, "Successfully registered layout resource: " + status);
-            }
-        } catch (Exception e) {
-            if (debugMode) {
-                Log.e(TAG, "Error inflating layout resource: " + layoutResource, e);
-            }
-            if (errorHandler != null) {
-                errorHandler.onError(e);
-            }
-        }
-
-        return this;
+        return registerStatusByLayoutLazy(status, layoutResource, null);
     }
 
     /**
@@ -231,141 +503,1494 @@ public class MultiStatusHelper {
      */
     @NonNull
     public MultiStatusHelper registerStatusByLayout(String status, @LayoutRes int layoutRes, @Nullable OnViewCreatedListener onViewCreated) {
-        View view = LayoutInflater.from(context).inflate(layoutRes, containerView, false);
+        LayoutStatus layoutStatus = new LayoutStatus(layoutRes, onViewCreated);
+        View view = obtainLayoutView(layoutRes);
         containerView.addView(view);
         if (onViewCreated != null) {
             onViewCreated.onViewCreated(view);
         }
-        return registerStatus(status, view);
+        registerStatus(status, view);
+        layoutStatus.view = view;
+        putLayoutStatus(StatusKey.of(status), layoutStatus);
+        return this;
     }
 
     /**
-     * 切换到指定状态
+     * 模式3：布局资源方式 - 延迟注册，首次切换到该状态时才膨胀布局
      */
     @NonNull
-    public MultiStatusHelper setStatus(String status) {
-        if (status.equals(currentStatus)) {
+    public MultiStatusHelper registerStatusByLayoutLazy(String status, @LayoutRes int layoutRes) {
+        return registerStatusByLayoutLazy(status, layoutRes, null);
+    }
+
+    /**
+     * 模式3：布局资源方式 - 带回调的延迟注册
+     * 注册时仅记录布局资源与回调，首次切换到该状态时才膨胀并添加到容器，回调在膨胀完成后触发
+     */
+    @NonNull
+    public MultiStatusHelper registerStatusByLayoutLazy(String status, @LayoutRes int layoutRes, @Nullable OnViewCreatedListener onViewCreated) {
+        StatusKey key = StatusKey.of(status);
+        statusViews.remove(key);
+        putLayoutStatus(key, new LayoutStatus(layoutRes, onViewCreated));
+
+        if (debugMode) {
+            Log.d(TAG, "Registered deferred status: " + status + " -> " + layoutRes);
+        }
+
+        // 当前状态即为该状态时需要立即显示
+        if (key == currentStatus) {
+            inflateLayoutStatus(key);
+        }
+        return this;
+    }
+
+    /**
+     * 模式3：布局资源方式 - 异步注册，在后台线程膨胀布局，完成后在主线程添加到容器
+     */
+    @NonNull
+    public MultiStatusHelper registerStatusByLayoutAsync(String status, @LayoutRes int layoutRes) {
+        return registerStatusByLayoutAsync(status, layoutRes, null);
+    }
+
+    /**
+     * 模式3：布局资源方式 - 带回调的异步注册
+     * 膨胀完成前切换到该状态的请求会被暂存，膨胀完成后再执行；
+     * 若期间已切换到其他状态，则暂存的请求被丢弃
+     */
+    @NonNull
+    public MultiStatusHelper registerStatusByLayoutAsync(String status, @LayoutRes int layoutRes, @Nullable OnViewCreatedListener onViewCreated) {
+        final StatusKey key = StatusKey.of(status);
+        statusViews.remove(key);
+        final LayoutStatus layoutStatus = new LayoutStatus(layoutRes, onViewCreated);
+        putLayoutStatus(key, layoutStatus);
+
+        // 视图池中有可用视图时无需膨胀
+        View pooledView = viewPool != null ? viewPool.acquire(layoutRes, context) : null;
+        if (pooledView != null) {
+            attachLayoutView(key, layoutStatus, pooledView);
+            return this;
+        }
+        layoutStatus.inflating = true;
+
+        if (debugMode) {
+            Log.d(TAG, "Inflating status asynchronously: " + status + " -> " + layoutRes);
+        }
+
+        StatusAsyncInflater.inflate(context, layoutRes, containerView, debugMode, new StatusAsyncInflater.Callback() {
+            @Override
+            public void onInflateFinished(@Nullable View view) {
+                onAsyncInflateFinished(key, layoutStatus, view);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * 异步膨胀完成（主线程）
+     */
+    private void onAsyncInflateFinished(StatusKey status, LayoutStatus layoutStatus, @Nullable View view) {
+        layoutStatus.inflating = false;
+        if (layoutStatuses.get(status) != layoutStatus) {
+            // 膨胀期间该状态已被重新注册，结果归还到视图池供之后复用
+            if (view != null && viewPool != null) {
+                viewPool.release(layoutStatus.layoutRes, view);
+            }
             if (debugMode) {
-                Log.d(TAG, "Status unchanged: " + status);
+                Log.d(TAG, "Dropped stale async inflation: " + status);
             }
-            return this;
+            return;
         }
 
-        View targetView = statusViews.get(status);
-        if (targetView == null) {
-            handleStatusNotFound(status);
-            return this;
+        if (view == null) {
+            // 后台膨胀失败，降级为主线程同步膨胀
+            if (inflateLayoutStatus(status) == null) {
+                return;
+            }
+        } else {
+            attachLayoutView(status, layoutStatus, view);
         }
 
-        String oldStatus = currentStatus;
-        View oldView = currentView;
+        // 暂存的请求可能指向该状态或其别名
+        StatusKey queued = queuedStatus;
+        if (queued != null && (queued == status || layoutStatuses.get(queued) == layoutStatus)) {
+            queuedStatus = null;
+            switchStatus(queued);
+        }
+    }
 
-        // 隐藏当前视图
-        if (oldView != null) {
-            oldView.setVisibility(View.GONE);
+    /**
+     * 膨胀延迟注册的状态视图并添加到容器
+     *
+     * @return 膨胀后的视图，未延迟注册或膨胀失败时返回null
+     */
+    @Nullable
+    private View inflateLayoutStatus(StatusKey status) {
+        LayoutStatus layoutStatus = layoutStatuses.get(status);
+        if (layoutStatus == null) {
+            return null;
         }
 
-        // 显示目标视图
-        targetView.setVisibility(View.VISIBLE);
-        currentStatus = status;
-        currentView = targetView;
+        // 别名与原状态共享同一个注册项，已膨胀则直接复用
+        if (layoutStatus.view != null) {
+            registerStatusInternal(status, layoutStatus.view);
+            return layoutStatus.view;
+        }
 
-        if (debugMode) {
-            Log.d(TAG, "Status changed from " + oldStatus + " to " + status);
+        try {
+            View view;
+            if (layoutStatus.stub != null) {
+                boolean traced = StatusTrace.begin(StatusTrace.SECTION_INFLATE);
+                try {
+                    view = layoutStatus.stub.inflate();
+                } finally {
+                    StatusTrace.end(traced);
+                }
+                layoutStatus.stub = null;
+                layoutStatus.layoutParams = view.getLayoutParams();
+                layoutStatus.viewId = view.getId();
+            } else {
+                view = obtainLayoutView(layoutStatus.layoutRes);
+            }
+            attachLayoutView(status, layoutStatus, view);
+            return view;
+        } catch (Exception e) {
+            if (debugMode) {
+                Log.e(TAG, "Error inflating layout resource: " + layoutStatus.layoutRes, e);
+            }
+            if (errorHandler != null) {
+                errorHandler.onError(e);
+            }
+            return null;
         }
+    }
 
-        // 触发监听器
-        notifyStatusChange(oldStatus, status);
+    /**
+     * 将膨胀完成的延迟状态视图添加到容器并注册
+     * ViewStub膨胀的视图已原位添加到容器
+     */
+    private void attachLayoutView(StatusKey status, LayoutStatus layoutStatus, View view) {
+        if (view.getParent() == null) {
+            if (layoutStatus.viewId != View.NO_ID) {
+                view.setId(layoutStatus.viewId);
+            }
+            if (layoutStatus.layoutParams != null) {
+                containerView.addView(view, layoutStatus.layoutParams);
+            } else {
+                containerView.addView(view);
+            }
+        }
+        layoutStatus.view = view;
+        layoutStatus.lastUsedTime = SystemClock.uptimeMillis();
+        if (layoutStatus.onViewCreated != null) {
+            layoutStatus.onViewCreated.onViewCreated(view);
+        }
+        registerStatusInternal(status, view);
+        traceCounters();
 
-        return this;
+        if (debugMode) {
+            Log.d(TAG, "Inflated deferred status: " + status);
+        }
     }
 
     /**
-     * 获取当前状态
+     * 获取布局资源对应的视图，优先从视图池中获取，否则膨胀新视图
      */
     @NonNull
-    public String getCurrentStatus() {
-        return currentStatus;
+    private View obtainLayoutView(@LayoutRes int layoutRes) {
+        if (viewPool != null) {
+            View view = viewPool.acquire(layoutRes, context);
+            if (view != null) {
+                if (debugMode) {
+                    Log.d(TAG, "Reused pooled view for layout: " + layoutRes);
+                }
+                return view;
+            }
+        }
+        boolean traced = StatusTrace.begin(StatusTrace.SECTION_INFLATE);
+        try {
+            return LayoutInflater.from(context).inflate(layoutRes, containerView, false);
+        } finally {
+            StatusTrace.end(traced);
+        }
     }
 
     /**
-     * 获取指定状态的视图
+     * 设置视图池，布局资源方式注册的状态会优先从视图池获取视图，释放时归还到视图池
+     * 注意：复用的视图会再次触发OnViewCreatedListener，回调需要能够重复执行
+     */
+    @NonNull
+    public MultiStatusHelper setViewPool(@Nullable StatusViewPool pool) {
+        viewPool = pool;
+        return this;
+    }
+
+    /**
+     * 获取视图池
      */
     @Nullable
-    public View getViewForStatus(String status) {
-        return statusViews.get(status);
+    public StatusViewPool getViewPool() {
+        return viewPool;
     }
 
     /**
-     * 获取所有已注册的状态
+     * 释放布局资源方式注册的状态视图：从容器移除并归还到视图池，状态保持注册，再次切换时重新获取
+     * 当前状态以及非布局资源方式注册的状态不会被释放
      */
     @NonNull
-    public List<String> getRegisteredStatuses() {
-        return new ArrayList<>(statusViews.keySet());
+    public MultiStatusHelper releaseStatus(String status) {
+        StatusKey key = StatusKey.find(status);
+        if (key != null) {
+            releaseStatus(key);
+        }
+        return this;
+    }
+
+    private void releaseStatus(StatusKey status) {
+        LayoutStatus layoutStatus = layoutStatuses.get(status);
+        if (layoutStatus == null || layoutStatus.view == null || isActiveView(layoutStatus.view)) {
+            return;
+        }
+
+        View view = layoutStatus.view;
+        layoutStatus.view = null;
+        containerView.removeView(view);
+        // 同时移除指向该视图的别名
+        for (int i = statusViews.size() - 1; i >= 0; i--) {
+            if (statusViews.valueAt(i) == view) {
+                statusViews.remove(statusViews.keyAt(i));
+            }
+        }
+        if (layoutStatus.onViewCreated instanceof StatusBinder) {
+            ((StatusBinder<?>) layoutStatus.onViewCreated).onViewReleased();
+        }
+        if (viewPool != null) {
+            resetViewState(view);
+            viewPool.release(layoutStatus.layoutRes, view);
+        }
+
+        if (debugMode) {
+            Log.d(TAG, "Released status: " + status);
+        }
+        traceCounters();
     }
 
     /**
-     * 添加状态变化监听器
+     * 取消未完成的过渡动画，并恢复切换策略修改过的属性
+     * 用于归还到视图池前与更换切换策略时，避免视图仍是透明的，或之前的动画结束回调在之后才执行
+     */
+    private static void resetViewState(View view) {
+        view.animate().cancel();
+        view.setAlpha(1f);
+        view.setTranslationX(0f);
+        view.setScaleX(1f);
+        view.setScaleY(1f);
+        view.setVisibility(View.VISIBLE);
+    }
+
+    /**
+     * 释放所有非当前状态的布局资源视图
      */
     @NonNull
-    public MultiStatusHelper addOnStatusChangeListener(@NonNull OnStatusChangeListener listener) {
-        if (!statusChangeListeners.contains(listener)) {
-            statusChangeListeners.add(listener);
+    public MultiStatusHelper releaseStatuses() {
+        for (int i = layoutStatuses.size() - 1; i >= 0; i--) {
+            releaseStatus(layoutStatuses.keyAt(i));
         }
         return this;
     }
 
     /**
-     * 移除状态变化监听器
+     * 列表行模式：在onBindViewHolder中调用
+     * 立即切换到该行的状态（不经过合并切换与防闪烁），并把其他布局资源状态视图归还到视图池，
+     * 每一行只保留正在显示的状态视图；状态应使用延迟注册，并与其他行共享同一个视图池
      */
+    @MainThread
     @NonNull
-    public MultiStatusHelper removeOnStatusChangeListener(@NonNull OnStatusChangeListener listener) {
-        statusChangeListeners.remove(listener);
+    public MultiStatusHelper bindRowStatus(@NonNull StatusKey status) {
+        pendingStatus = null;
+        cancelTimedStatus();
+        if (status == currentStatus && currentView == null) {
+            // 行被回收后绑定到相同状态，重新取回视图
+            inflateLayoutStatus(status);
+        } else {
+            switchStatus(status);
+        }
+        releaseStatuses();
         return this;
     }
 
     /**
-     * 移除所有状态变化监听器
+     * 列表行模式：在onViewRecycled中调用，把包括当前状态在内的所有布局资源状态视图归还到视图池
      */
+    @MainThread
     @NonNull
-    public MultiStatusHelper removeAllStatusChangeListeners() {
-        statusChangeListeners.clear();
+    public MultiStatusHelper recycleRow() {
+        LayoutStatus current = layoutStatuses.get(currentStatus);
+        if (current != null && current.view != null && current.view == currentView) {
+            currentView = null;
+        }
+        releaseStatuses();
         return this;
     }
 
     /**
-     * 设置状态未找到监听器
+     * 设置驻留策略：超出最大驻留数量或超过空闲时间的非当前状态视图会按LRU顺序从容器移除，
+     * 再次切换到该状态时重新从布局资源膨胀；内存紧张时（onTrimMemory）同样会回收
+     * 只有布局资源方式注册的状态会被回收，当前状态和固定的状态不会被回收
+     *
+     * @param maxResidentStatuses    非当前状态的最大驻留数量，<=0表示不限制
+     * @param residencyTimeoutMillis 非当前状态的最长空闲时间，<=0表示不限制
      */
     @NonNull
-    public MultiStatusHelper setOnStatusNotFoundListener(@Nullable OnStatusNotFoundListener listener) {
-        onStatusNotFoundListener = listener;
+    public MultiStatusHelper setResidencyPolicy(int maxResidentStatuses, long residencyTimeoutMillis) {
+        this.maxResidentStatuses = maxResidentStatuses;
+        this.residencyTimeoutMillis = residencyTimeoutMillis;
+        residencyEnabled = maxResidentStatuses > 0 || residencyTimeoutMillis > 0;
+        mainHandler.removeCallbacks(residencySweep);
+        if (residencyEnabled) {
+            enforceResidency();
+        }
         return this;
     }
 
     /**
-     * 设置错误处理器
+     * 固定状态，固定的状态不会被驻留策略回收
      */
     @NonNull
-    public MultiStatusHelper setErrorHandler(@Nullable ErrorHandler handler) {
-        errorHandler = handler;
+    public MultiStatusHelper pinStatus(String status) {
+        pinnedStatuses.add(StatusKey.of(status));
         return this;
     }
 
     /**
-     * 处理状态未找到的情况
+     * 取消固定状态
      */
-    private void handleStatusNotFound(String status) {
-        if (debugMode) {
-            Log.w(TAG, "Status not found: " + status);
+    @NonNull
+    public MultiStatusHelper unpinStatus(String status) {
+        StatusKey key = StatusKey.find(status);
+        if (key != null) {
+            pinnedStatuses.remove(key);
         }
+        return this;
+    }
 
-        if (onStatusNotFoundListener != null) {
-            onStatusNotFoundListener.onStatusNotFound(status);
+    /**
+     * 响应系统内存回收通知，启用了驻留策略时回收非当前状态的视图
+     * 内存紧张（前台的TRIM_MEMORY_RUNNING_LOW、TRIM_MEMORY_RUNNING_CRITICAL，或后台的TRIM_MEMORY_MODERATE及以上）时
+     * 回收全部可回收视图，其他级别（例如界面隐藏时的TRIM_MEMORY_UI_HIDDEN）只按驻留策略回收
+     */
+    public void onTrimMemory(int level) {
+        if (!residencyEnabled) {
+            return;
         }
-
-        // 默认行为：保持当前状态
         if (debugMode) {
-            Log.d(TAG, "Keeping current status: " + currentStatus);
+            Log.d(TAG, "onTrimMemory: " + level);
+        }
+        if (level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL
+                || level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            for (StatusKey status : collectEvictableStatuses()) {
+                releaseStatus(status);
+            }
+        } else {
+            enforceResidency();
+        }
+    }
+
+    /**
+     * 移除主线程上尚未执行的定时任务，容器从窗口分离时调用
+     * 延迟中的状态保留剩余的等待时间，与驻留检查一起在 {@link #resumePendingCallbacks()} 时重新安排
+     */
+    @NonNull
+    public MultiStatusHelper cancelPendingCallbacks() {
+        mainHandler.removeCallbacks(residencySweep);
+        if (timedStatus != null && !timedStatusSuspended) {
+            mainHandler.removeCallbacks(timedStatusApply);
+            timedStatusRemaining = Math.max(0, timedStatusDeadline - SystemClock.uptimeMillis());
+            timedStatusSuspended = true;
+        }
+        return this;
+    }
+
+    /**
+     * 重新安排延迟中的状态与驻留检查，容器重新attach到窗口时调用
+     */
+    @NonNull
+    public MultiStatusHelper resumePendingCallbacks() {
+        if (timedStatusSuspended) {
+            timedStatusSuspended = false;
+            timedStatusDeadline = SystemClock.uptimeMillis() + timedStatusRemaining;
+            mainHandler.postAtTime(timedStatusApply, timedStatusDeadline);
+        }
+        if (residencyEnabled) {
+            enforceResidency();
+        }
+        return this;
+    }
+
+    /**
+     * 按驻留策略回收视图，并在存在空闲超时时安排下一次检查
+     */
+    private void enforceResidency() {
+        mainHandler.removeCallbacks(residencySweep);
+        List<StatusKey> evictable = collectEvictableStatuses();
+        long now = SystemClock.uptimeMillis();
+        long nextTimeout = Long.MAX_VALUE;
+        int resident = evictable.size();
+
+        // collectEvictableStatuses按最近使用时间升序排列，从最久未使用的开始回收
+        for (StatusKey status : evictable) {
+            LayoutStatus layoutStatus = layoutStatuses.get(status);
+            boolean expired = residencyTimeoutMillis > 0 && now - layoutStatus.lastUsedTime >= residencyTimeoutMillis;
+            boolean overflow = maxResidentStatuses > 0 && resident > maxResidentStatuses;
+            if (expired || overflow) {
+                if (debugMode) {
+                    Log.d(TAG, "Evicting status: " + status);
+                }
+                releaseStatus(status);
+                resident--;
+            } else if (residencyTimeoutMillis > 0) {
+                nextTimeout = Math.min(nextTimeout, layoutStatus.lastUsedTime + residencyTimeoutMillis);
+            }
+        }
+
+        if (nextTimeout != Long.MAX_VALUE) {
+            mainHandler.postAtTime(residencySweep, nextTimeout);
+        }
+    }
+
+    /**
+     * 收集可回收的状态：已膨胀、非当前、未固定的布局资源状态，别名只保留一个，按最近使用时间升序排列
+     */
+    @NonNull
+    private List<StatusKey> collectEvictableStatuses() {
+        Set<LayoutStatus> pinned = new HashSet<>();
+        for (StatusKey status : pinnedStatuses) {
+            LayoutStatus layoutStatus = layoutStatuses.get(status);
+            if (layoutStatus != null) {
+                pinned.add(layoutStatus);
+            }
+        }
+
+        Set<LayoutStatus> seen = new HashSet<>();
+        List<StatusKey> statuses = new ArrayList<>();
+        for (int i = 0; i < layoutStatuses.size(); i++) {
+            LayoutStatus layoutStatus = layoutStatuses.valueAt(i);
+            if (layoutStatus.view == null || isActiveView(layoutStatus.view)
+                    || pinned.contains(layoutStatus) || !seen.add(layoutStatus)) {
+                continue;
+            }
+            statuses.add(layoutStatuses.keyAt(i));
+        }
+
+        Collections.sort(statuses, new Comparator<StatusKey>() {
+            @Override
+            public int compare(StatusKey a, StatusKey b) {
+                long timeA = layoutStatuses.get(a).lastUsedTime;
+                long timeB = layoutStatuses.get(b).lastUsedTime;
+                return timeA < timeB ? -1 : (timeA == timeB ? 0 : 1);
+            }
+        });
+        return statuses;
+    }
+
+    /**
+     * 在主线程空闲时按给定优先级顺序预热延迟注册的状态，应在主线程调用，其他线程调用时转到主线程执行
+     * 每次空闲只膨胀一个状态，有输入或绘制任务到来时让出主线程；已膨胀的状态会被跳过
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper startIdlePrewarm(final String... statuses) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            // 空闲回调必须注册在主线程的消息队列上
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    startIdlePrewarm(statuses);
+                }
+            });
+            return this;
+        }
+        for (String status : statuses) {
+            enqueuePrewarm(StatusKey.of(status));
+        }
+        return this;
+    }
+
+    /**
+     * 取消尚未执行的预热，应在主线程调用，其他线程调用时转到主线程执行
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper cancelPrewarm() {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    cancelPrewarm();
+                }
+            });
+            return this;
+        }
+        prewarmQueue.clear();
+        if (prewarmScheduled) {
+            Looper.myQueue().removeIdleHandler(prewarmIdleHandler);
+            prewarmScheduled = false;
+        }
+        return this;
+    }
+
+    /**
+     * 设置状态切换模型：每次切换都会被记录，并在主线程空闲时预热最可能出现的下一个状态
+     * 同一模型可以在使用相同布局的多个Helper之间共享
+     */
+    @NonNull
+    public MultiStatusHelper setTransitionModel(@Nullable StatusTransitionModel model) {
+        transitionModel = model;
+        return this;
+    }
+
+    /**
+     * 获取状态切换模型
+     */
+    @Nullable
+    public StatusTransitionModel getTransitionModel() {
+        return transitionModel;
+    }
+
+    /**
+     * 设置状态预热完成监听器
+     */
+    @NonNull
+    public MultiStatusHelper setOnPrewarmListener(@Nullable OnPrewarmListener listener) {
+        onPrewarmListener = listener;
+        return this;
+    }
+
+    /**
+     * 获取已完成预热的状态
+     */
+    @NonNull
+    public List<String> getPrewarmedStatuses() {
+        return new ArrayList<>(prewarmedStatuses);
+    }
+
+    /**
+     * 加入预热队列，并在需要时注册空闲回调
+     */
+    private void enqueuePrewarm(StatusKey status) {
+        if (!needsInflation(status) || prewarmQueue.contains(status)) {
+            return;
+        }
+        prewarmQueue.add(status);
+        if (!prewarmScheduled) {
+            Looper.myQueue().addIdleHandler(prewarmIdleHandler);
+            prewarmScheduled = true;
+        }
+    }
+
+    /**
+     * 预热队列中下一个仍需膨胀的状态
+     */
+    private void prewarmNext() {
+        while (!prewarmQueue.isEmpty()) {
+            StatusKey status = prewarmQueue.remove(0);
+            if (!needsInflation(status)) {
+                continue;
+            }
+            if (inflateLayoutStatus(status) != null) {
+                prewarmedStatuses.add(status.getName());
+                if (debugMode) {
+                    Log.d(TAG, "Prewarmed status: " + status);
+                }
+                if (onPrewarmListener != null) {
+                    onPrewarmListener.onStatusPrewarmed(status.getName());
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * 状态是否为尚未膨胀、且不在异步膨胀中的布局资源状态
+     */
+    private boolean needsInflation(StatusKey status) {
+        LayoutStatus layoutStatus = layoutStatuses.get(status);
+        return layoutStatus != null && layoutStatus.view == null && !layoutStatus.inflating;
+    }
+
+    /**
+     * 切换到指定状态，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
+    public MultiStatusHelper setStatus(String status) {
+        StatusKey key = StatusKey.find(status);
+        if (key == null) {
+            // 从未注册过的状态名（例如拼写错误）不会生成状态键
+            reportStatusNotFound(status);
+            return this;
+        }
+        return setStatus(key);
+    }
+
+    /**
+     * 切换到指定状态
+     * 目标状态已膨胀时，整个切换过程不做哈希查找，也不分配对象
+     * 处于事务中或开启了合并切换时，只记录目标状态，稍后统一应用
+     * 可在任意线程调用：非主线程的请求只保存最新的目标状态，并最多投递一次主线程消息，最后一次请求生效
+     */
+    @AnyThread
+    @NonNull
+    public MultiStatusHelper setStatus(@NonNull StatusKey status) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            if (offThreadStatus.getAndSet(status) == null) {
+                mainHandler.post(offThreadStatusApply);
+            }
+            return this;
+        }
+        // 主线程的请求晚于尚未执行的非主线程请求，后者作废
+        if (offThreadStatus.get() != null) {
+            offThreadStatus.set(null);
+        }
+        if (transactionDepth > 0) {
+            pendingStatus = status;
+            return this;
+        }
+        if (coalesceStatusChanges) {
+            pendingStatus = status;
+            scheduleFrame();
+            return this;
+        }
+        pendingStatus = null;
+        applyStatus(status);
+        return this;
+    }
+
+    /**
+     * 切换到指定状态，并把数据交给该状态注册的 {@link StatusBinder}
+     * 数据与上一次绑定的数据相等时不会重复绑定
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper setStatus(@NonNull String status, @Nullable Object payload) {
+        StatusKey key = StatusKey.find(status);
+        if (key == null) {
+            handleStatusNotFound(status);
+            return this;
+        }
+        return setStatus(key, payload);
+    }
+
+    /**
+     * 切换到指定状态，并把数据交给该状态注册的 {@link StatusBinder}
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper setStatus(@NonNull StatusKey status, @Nullable Object payload) {
+        LayoutStatus layoutStatus = layoutStatuses.get(status);
+        if (layoutStatus != null && layoutStatus.onViewCreated instanceof StatusBinder) {
+            ((StatusBinder<?>) layoutStatus.onViewCreated).setPayload(payload);
+        } else if (debugMode) {
+            Log.w(TAG, "No StatusBinder registered for status: " + status);
+        }
+        return setStatus(status);
+    }
+
+    /**
+     * 开启或关闭合并切换，默认关闭
+     * 开启后setStatus只记录目标状态，在下一帧应用最后一次请求的状态，监听器只会收到一次合并后的 旧状态→新状态 回调
+     * 关闭时会立即应用尚未应用的状态
+     */
+    @NonNull
+    public MultiStatusHelper setCoalesceStatusChanges(boolean coalesce) {
+        coalesceStatusChanges = coalesce;
+        if (!coalesce && transactionDepth == 0) {
+            flushPendingStatus();
+        }
+        return this;
+    }
+
+    /**
+     * 开始事务，commit之前的setStatus只记录目标状态
+     * 事务可以嵌套，最外层commit时才应用
+     * 只有setStatus会被合并：setStatus(status, payload)的数据会立即交给绑定器，
+     * 叠加状态的显示与隐藏不能在事务中调用，否则抛出IllegalStateException
+     */
+    @NonNull
+    public MultiStatusHelper beginTransaction() {
+        transactionDepth++;
+        return this;
+    }
+
+    /**
+     * 提交事务，应用事务中最后一次请求的状态
+     * 开启了合并切换时，在下一帧应用
+     */
+    @NonNull
+    public MultiStatusHelper commit() {
+        if (transactionDepth == 0) {
+            throw new IllegalStateException("commit() called without beginTransaction()");
+        }
+        transactionDepth--;
+        if (transactionDepth == 0 && pendingStatus != null) {
+            if (coalesceStatusChanges) {
+                scheduleFrame();
+            } else {
+                flushPendingStatus();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 事务只合并setStatus，其他切换操作在事务中执行会与被推迟的主状态切换交错
+     */
+    private void checkNoTransaction(String method) {
+        if (transactionDepth > 0) {
+            throw new IllegalStateException(method + "() cannot be called inside a transaction");
+        }
+    }
+
+    /**
+     * 立即应用尚未应用的状态，事务中调用无效
+     */
+    @NonNull
+    public MultiStatusHelper flushPendingStatus() {
+        if (transactionDepth > 0) {
+            return this;
+        }
+        if (frameScheduled) {
+            Choreographer.getInstance().removeFrameCallback(applyPendingFrame);
+            frameScheduled = false;
+        }
+        StatusKey status = pendingStatus;
+        if (status != null) {
+            pendingStatus = null;
+            applyStatus(status);
+        }
+        return this;
+    }
+
+    private void scheduleFrame() {
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(applyPendingFrame);
+        }
+    }
+
+    /**
+     * 绑定状态数据源，容器attach到窗口时订阅，detach时取消订阅
+     * 数据源的多次回调会合并，只应用最新的状态
+     */
+    @MainThread
+    @NonNull
+    public StatusBinding bindStatusSource(@NonNull StatusSource source) {
+        StatusBinding binding = new StatusBinding(this, source);
+        binding.followAttachState(containerView);
+        return binding;
+    }
+
+    /**
+     * 创建状态数据源绑定，由调用方通过start/stop控制订阅，例如跟随页面生命周期
+     */
+    @NonNull
+    public StatusBinding createStatusBinding(@NonNull StatusSource source) {
+        return new StatusBinding(this, source);
+    }
+
+    /**
+     * 设置状态的防闪烁时间
+     *
+     * @param showDelayMillis  请求切换到该状态后延迟显示的时间，期间切换到其他状态则不再显示，例如快速返回时不闪现loading
+     * @param minDisplayMillis 该状态显示后的最短保持时间，期间切换到其他状态会推迟到时间满足后再切换，只保留最后一次请求
+     */
+    @NonNull
+    public MultiStatusHelper setStatusTiming(@NonNull String status, long showDelayMillis, long minDisplayMillis) {
+        StatusKey key = StatusKey.of(status);
+        if (showDelayMillis <= 0 && minDisplayMillis <= 0) {
+            statusTimings.remove(key);
+            return this;
+        }
+        StatusTiming timing = statusTimings.get(key);
+        if (timing == null) {
+            timing = new StatusTiming();
+            statusTimings.put(key, timing);
+        }
+        timing.showDelayMillis = Math.max(showDelayMillis, 0);
+        timing.minDisplayMillis = Math.max(minDisplayMillis, 0);
+        return this;
+    }
+
+    /**
+     * 按防闪烁时间应用状态：时间未满足时推迟切换，新的请求会取消尚未应用的中间状态
+     */
+    private void applyStatus(StatusKey status) {
+        if (statusTimings.size() == 0) {
+            cancelTimedStatus();
+            switchStatus(status);
+            return;
+        }
+
+        long now = SystemClock.uptimeMillis();
+        // 重复请求同一个延迟状态时保留原来的截止时间
+        long deadline = status == timedStatus ? timedStatusDeadline : now;
+        if (status != timedStatus) {
+            cancelTimedStatus();
+            if (status == currentStatus) {
+                return;
+            }
+            StatusTiming target = statusTimings.get(status);
+            if (target != null) {
+                deadline = now + target.showDelayMillis;
+            }
+            StatusTiming current = statusTimings.get(currentStatus);
+            if (current != null) {
+                deadline = Math.max(deadline, currentShownTime + current.minDisplayMillis);
+            }
+        }
+
+        if (deadline <= now) {
+            cancelTimedStatus();
+            switchStatus(status);
+            return;
+        }
+        if (status != timedStatus) {
+            timedStatus = status;
+            timedStatusDeadline = deadline;
+            mainHandler.postAtTime(timedStatusApply, deadline);
+            if (debugMode) {
+                Log.d(TAG, "Status delayed " + (deadline - now) + "ms: " + status);
+            }
+        }
+    }
+
+    private void cancelTimedStatus() {
+        if (timedStatus != null) {
+            timedStatus = null;
+            timedStatusSuspended = false;
+            mainHandler.removeCallbacks(timedStatusApply);
+        }
+    }
+
+    private void switchStatus(StatusKey status) {
+        boolean traced = StatusTrace.begin(StatusTrace.SECTION_SET_STATUS);
+        try {
+            setStatusInternal(status);
+        } finally {
+            StatusTrace.end(traced);
+        }
+    }
+
+    private void setStatusInternal(StatusKey status) {
+        // 任何新的切换请求都会取代之前暂存的请求
+        queuedStatus = null;
+
+        if (status == currentStatus) {
+            if (debugMode) {
+                Log.d(TAG, "Status unchanged: " + status);
+            }
+            return;
+        }
+
+        View targetView = statusViews.get(status);
+        if (targetView == null) {
+            LayoutStatus layoutStatus = layoutStatuses.get(status);
+            if (layoutStatus != null && layoutStatus.inflating) {
+                // 异步膨胀尚未完成，暂存请求
+                queuedStatus = status;
+                if (debugMode) {
+                    Log.d(TAG, "Status queued until inflation finishes: " + status);
+                }
+                return;
+            }
+            targetView = inflateLayoutStatus(status);
+        }
+        if (targetView == null) {
+            handleStatusNotFound(status.getName());
+            return;
+        }
+
+        StatusKey oldStatus = currentStatus;
+        View oldView = currentView;
+        // 叠加状态切换为主状态，此时它已经可见
+        boolean wasOverlay = activeOverlays.get(status.getId());
+        activeOverlays.clear(status.getId());
+
+        if (switchLayoutListener != null) {
+            switchLayoutListener.onSwitchStart();
+        }
+        try {
+            // 隐藏当前视图
+            if (oldView != null) {
+                switchStrategy.hide(containerView, oldView);
+            }
+
+            // 显示目标视图
+            switchStrategy.show(containerView, targetView);
+            if (!activeOverlays.isEmpty()) {
+                applyZOrder();
+            }
+        } finally {
+            if (switchLayoutListener != null) {
+                switchLayoutListener.onSwitchEnd();
+            }
+        }
+        currentStatus = status;
+        currentView = targetView;
+        currentShownTime = SystemClock.uptimeMillis();
+
+        if (debugMode) {
+            Log.d(TAG, "Status changed from " + oldStatus + " to " + status);
+        }
+
+        // 触发监听器
+        notifyStatusChange(oldStatus.getName(), status.getName());
+        if (statusVisibilityListeners.length > 0) {
+            // 旧状态没有视图时（例如默认状态尚未注册）它从未显示过
+            if (oldView != null) {
+                dispatchStatusVisibility(oldStatus.getName(), false);
+            }
+            if (!wasOverlay) {
+                dispatchStatusVisibility(status.getName(), true);
+            }
+        }
+
+        // 被切走的状态开始计入驻留时间
+        LayoutStatus oldLayoutStatus = layoutStatuses.get(oldStatus);
+        if (oldLayoutStatus != null) {
+            oldLayoutStatus.lastUsedTime = SystemClock.uptimeMillis();
+        }
+        if (residencyEnabled) {
+            enforceResidency();
+        }
+
+        // 记录切换并预取最可能出现的下一个状态
+        if (transitionModel != null) {
+            transitionModel.record(oldStatus.getName(), status.getName());
+            String predicted = transitionModel.predictNext(status.getName());
+            if (predicted != null) {
+                enqueuePrewarm(StatusKey.of(predicted));
+            }
+        }
+
+        traceCounters();
+    }
+
+    /**
+     * 叠加显示状态：不隐藏当前状态，例如在内容之上显示刷新中的覆盖层，内容无需重新布局
+     * 多个叠加状态可以同时显示，按 {@link #setStatusZOrder(String, int)} 设置的层级排列
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper showOverlay(@NonNull String status) {
+        StatusKey key = StatusKey.find(status);
+        if (key == null) {
+            handleStatusNotFound(status);
+            return this;
+        }
+        return showOverlay(key);
+    }
+
+    @MainThread
+    @NonNull
+    public MultiStatusHelper showOverlay(@NonNull StatusKey status) {
+        checkNoTransaction("showOverlay");
+        if (status == currentStatus || activeOverlays.get(status.getId())) {
+            return this;
+        }
+        // 先标记为活动状态，延迟注册的视图膨胀后不会被隐藏
+        activeOverlays.set(status.getId());
+        View view = statusViews.get(status);
+        if (view == null) {
+            view = inflateLayoutStatus(status);
+        }
+        if (view == null) {
+            activeOverlays.clear(status.getId());
+            handleStatusNotFound(status.getName());
+            return this;
+        }
+
+        if (switchLayoutListener != null) {
+            switchLayoutListener.onSwitchStart();
+        }
+        try {
+            switchStrategy.show(containerView, view);
+            applyZOrder();
+        } finally {
+            if (switchLayoutListener != null) {
+                switchLayoutListener.onSwitchEnd();
+            }
+        }
+
+        if (debugMode) {
+            Log.d(TAG, "Overlay shown: " + status);
+        }
+        dispatchStatusVisibility(status.getName(), true);
+        traceCounters();
+        return this;
+    }
+
+    /**
+     * 隐藏叠加状态
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper hideOverlay(@NonNull String status) {
+        StatusKey key = StatusKey.find(status);
+        return key != null ? hideOverlay(key) : this;
+    }
+
+    @MainThread
+    @NonNull
+    public MultiStatusHelper hideOverlay(@NonNull StatusKey status) {
+        checkNoTransaction("hideOverlay");
+        if (!activeOverlays.get(status.getId())) {
+            return this;
+        }
+        activeOverlays.clear(status.getId());
+        View view = statusViews.get(status);
+        if (view != null && !isActiveView(view)) {
+            if (switchLayoutListener != null) {
+                switchLayoutListener.onSwitchStart();
+            }
+            try {
+                switchStrategy.hide(containerView, view);
+            } finally {
+                if (switchLayoutListener != null) {
+                    switchLayoutListener.onSwitchEnd();
+                }
+            }
+        }
+
+        if (debugMode) {
+            Log.d(TAG, "Overlay hidden: " + status);
+        }
+        dispatchStatusVisibility(status.getName(), false);
+        traceCounters();
+        return this;
+    }
+
+    /**
+     * 隐藏所有叠加状态
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusHelper hideAllOverlays() {
+        checkNoTransaction("hideAllOverlays");
+        for (int id = activeOverlays.nextSetBit(0); id >= 0; id = activeOverlays.nextSetBit(id + 1)) {
+            StatusKey status = StatusKey.fromId(id);
+            if (status != null) {
+                hideOverlay(status);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 状态是否正在显示（当前状态或叠加状态）
+     */
+    public boolean isStatusActive(@NonNull String status) {
+        StatusKey key = StatusKey.find(status);
+        return key != null && (key == currentStatus || activeOverlays.get(key.getId()));
+    }
+
+    /**
+     * 获取正在显示的所有状态，当前状态在前，叠加状态在后
+     */
+    @NonNull
+    public List<String> getActiveStatuses() {
+        List<String> statuses = new ArrayList<>();
+        statuses.add(currentStatus.getName());
+        for (int id = activeOverlays.nextSetBit(0); id >= 0; id = activeOverlays.nextSetBit(id + 1)) {
+            StatusKey status = StatusKey.fromId(id);
+            if (status != null) {
+                statuses.add(status.getName());
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * 设置状态的层级，值大的显示在上层，默认为0
+     * 层级相同时，叠加状态显示在当前状态之上
+     */
+    @NonNull
+    public MultiStatusHelper setStatusZOrder(@NonNull String status, int zOrder) {
+        StatusKey key = StatusKey.of(status);
+        statusZOrders.put(key.getId(), zOrder);
+        if (!activeOverlays.isEmpty()) {
+            applyZOrder();
+        }
+        return this;
+    }
+
+    /**
+     * 视图是否属于正在显示的状态（当前状态或叠加状态）
+     */
+    private boolean isActiveView(View view) {
+        if (view == currentView) {
+            return true;
+        }
+        for (int id = activeOverlays.nextSetBit(0); id >= 0; id = activeOverlays.nextSetBit(id + 1)) {
+            StatusKey status = StatusKey.fromId(id);
+            if (status != null && statusViews.get(status) == view) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按层级调整正在显示的状态视图在容器中的顺序，顺序已经正确时不做任何修改
+     */
+    private void applyZOrder() {
+        List<StatusKey> active = new ArrayList<>();
+        if (currentView != null) {
+            active.add(currentStatus);
+        }
+        for (int id = activeOverlays.nextSetBit(0); id >= 0; id = activeOverlays.nextSetBit(id + 1)) {
+            StatusKey status = StatusKey.fromId(id);
+            if (status != null && statusViews.get(status) != null) {
+                active.add(status);
+            }
+        }
+        if (active.size() < 2) {
+            return;
+        }
+        // 稳定排序：层级相同时保持 当前状态、叠加状态 的顺序
+        Collections.sort(active, new Comparator<StatusKey>() {
+            @Override
+            public int compare(StatusKey a, StatusKey b) {
+                int zA = statusZOrders.get(a.getId());
+                int zB = statusZOrders.get(b.getId());
+                return zA < zB ? -1 : (zA == zB ? 0 : 1);
+            }
+        });
+
+        boolean ordered = true;
+        int lastIndex = -1;
+        for (StatusKey status : active) {
+            int index = containerView.indexOfChild(statusViews.get(status));
+            if (index < lastIndex) {
+                ordered = false;
+                break;
+            }
+            lastIndex = index;
+        }
+        if (ordered) {
+            return;
+        }
+        for (StatusKey status : active) {
+            containerView.bringChildToFront(statusViews.get(status));
+        }
+        containerView.invalidate();
+    }
+
+    void setOnSwitchLayoutListener(@Nullable OnSwitchLayoutListener listener) {
+        switchLayoutListener = listener;
+    }
+
+    /**
+     * 设置状态切换策略，默认为 {@link StatusSwitchStrategy#GONE}
+     * 已注册的非当前状态视图会立即按新策略隐藏
+     */
+    @NonNull
+    public MultiStatusHelper setSwitchStrategy(@NonNull StatusSwitchStrategy strategy) {
+        if (strategy == switchStrategy) {
+            return this;
+        }
+        switchStrategy = strategy;
+        Set<View> views = new HashSet<>();
+        for (int i = 0; i < statusViews.size(); i++) {
+            views.add(statusViews.valueAt(i));
+        }
+        for (View view : views) {
+            // 先取消旧策略未完成的动画并恢复到可见状态，再按新策略处理
+            resetViewState(view);
+            if (view.getParent() == null) {
+                containerView.addView(view);
+            }
+            if (!isActiveView(view)) {
+                strategy.hide(containerView, view);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取当前已应用的状态，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
+    public String getCurrentStatus() {
+        return currentStatus.getName();
+    }
+
+    /**
+     * 获取当前已应用的状态键，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
+    public StatusKey getCurrentStatusKey() {
+        return currentStatus;
+    }
+
+    /**
+     * 获取指定状态的视图
+     * 延迟注册且尚未膨胀的状态返回null
+     */
+    @Nullable
+    public View getViewForStatus(String status) {
+        StatusKey key = StatusKey.find(status);
+        return key != null ? statusViews.get(key) : null;
+    }
+
+    /**
+     * 获取指定状态键的视图
+     */
+    @Nullable
+    public View getViewForStatus(@NonNull StatusKey status) {
+        return statusViews.get(status);
+    }
+
+    /**
+     * 获取所有已注册的状态
+     */
+    @NonNull
+    public List<String> getRegisteredStatuses() {
+        List<String> statuses = new ArrayList<>(registeredStatuses.size());
+        for (int i = 0; i < registeredStatuses.size(); i++) {
+            statuses.add(registeredStatuses.keyAt(i).getName());
+        }
+        return statuses;
+    }
+
+    /**
+     * 获取已注册状态的数量，与 {@link #getRegisteredStatusKeyAt(int)} 配合可以无分配地遍历已注册状态
+     */
+    public int getRegisteredStatusCount() {
+        return registeredStatuses.size();
+    }
+
+    /**
+     * 按注册顺序获取指定下标的状态键
+     */
+    @NonNull
+    public StatusKey getRegisteredStatusKeyAt(int index) {
+        return registeredStatuses.keyAt(index);
+    }
+
+    /**
+     * 获取指定状态的内存占用估算，未注册时返回null
+     */
+    @Nullable
+    public StatusMemoryInfo getMemoryInfo(String status) {
+        return getMemoryReport().getStatus(status);
+    }
+
+    /**
+     * 获取所有已注册状态的内存占用报告
+     * 需要遍历所有已膨胀的视图树，只应在调试或统计时调用
+     */
+    @NonNull
+    public StatusMemoryReport getMemoryReport() {
+        List<StatusMemoryInfo> infos = new ArrayList<>();
+        Map<Bitmap, Boolean> countedBitmaps = StatusMemoryReport.newBitmapSet();
+        Set<View> countedViews = new HashSet<>();
+        int totalViews = 0;
+        long totalBytes = 0;
+
+        for (int i = 0; i < registeredStatuses.size(); i++) {
+            StatusKey status = registeredStatuses.keyAt(i);
+            View view = statusViews.get(status);
+            if (view == null) {
+                LayoutStatus layoutStatus = layoutStatuses.get(status);
+                view = layoutStatus != null ? layoutStatus.view : null;
+            }
+            if (view == null) {
+                infos.add(new StatusMemoryInfo(status.getName(), StatusMemoryInfo.State.DEFERRED, 0, 0));
+                continue;
+            }
+
+            StatusMemoryInfo.State state = view.getParent() == containerView
+                    ? StatusMemoryInfo.State.ATTACHED : StatusMemoryInfo.State.INFLATED;
+            if (!countedViews.add(view)) {
+                // 别名共享视图，不重复计入
+                infos.add(new StatusMemoryInfo(status.getName(), state, 0, 0));
+                continue;
+            }
+            StatusMemoryReport.Cost cost = StatusMemoryReport.measure(view, countedBitmaps);
+            infos.add(new StatusMemoryInfo(status.getName(), state, cost.viewCount, cost.estimatedBytes));
+            totalViews += cost.viewCount;
+            totalBytes += cost.estimatedBytes;
+        }
+        return new StatusMemoryReport(infos, totalViews, totalBytes);
+    }
+
+    /**
+     * 添加状态变化监听器
+     */
+    @NonNull
+    public MultiStatusHelper addOnStatusChangeListener(@NonNull OnStatusChangeListener listener) {
+        statusChangeListeners = addListener(statusChangeListeners, listener);
+        return this;
+    }
+
+    /**
+     * 移除状态变化监听器
+     */
+    @NonNull
+    public MultiStatusHelper removeOnStatusChangeListener(@NonNull OnStatusChangeListener listener) {
+        statusChangeListeners = removeListener(statusChangeListeners, listener, EMPTY_LISTENERS);
+        return this;
+    }
+
+    /**
+     * 移除所有状态变化监听器
+     */
+    @NonNull
+    public MultiStatusHelper removeAllStatusChangeListeners() {
+        statusChangeListeners = EMPTY_LISTENERS;
+        return this;
+    }
+
+    /**
+     * 添加状态显示/隐藏监听器
+     */
+    @NonNull
+    public MultiStatusHelper addOnStatusVisibilityListener(@NonNull OnStatusVisibilityListener listener) {
+        statusVisibilityListeners = addListener(statusVisibilityListeners, listener);
+        return this;
+    }
+
+    /**
+     * 移除状态显示/隐藏监听器
+     */
+    @NonNull
+    public MultiStatusHelper removeOnStatusVisibilityListener(@NonNull OnStatusVisibilityListener listener) {
+        statusVisibilityListeners = removeListener(statusVisibilityListeners, listener, EMPTY_VISIBILITY_LISTENERS);
+        return this;
+    }
+
+    /**
+     * 写入时复制：返回加入监听器后的新数组，监听器已存在时返回原数组
+     */
+    private static <T> T[] addListener(T[] listeners, T listener) {
+        if (indexOfListener(listeners, listener) >= 0) {
+            return listeners;
+        }
+        T[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        return newListeners;
+    }
+
+    /**
+     * 写入时复制：返回移除监听器后的新数组，监听器不存在时返回原数组
+     */
+    private static <T> T[] removeListener(T[] listeners, T listener, T[] empty) {
+        int index = indexOfListener(listeners, listener);
+        if (index < 0) {
+            return listeners;
+        }
+        if (listeners.length == 1) {
+            return empty;
+        }
+        T[] newListeners = Arrays.copyOf(listeners, listeners.length - 1);
+        System.arraycopy(listeners, index + 1, newListeners, index, listeners.length - index - 1);
+        return newListeners;
+    }
+
+    private static int indexOfListener(Object[] listeners, Object listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 设置状态未找到监听器
+     */
+    @NonNull
+    public MultiStatusHelper setOnStatusNotFoundListener(@Nullable OnStatusNotFoundListener listener) {
+        onStatusNotFoundListener = listener;
+        return this;
+    }
+
+    /**
+     * 设置错误处理器
+     */
+    @NonNull
+    public MultiStatusHelper setErrorHandler(@Nullable ErrorHandler handler) {
+        errorHandler = handler;
+        return this;
+    }
+
+    /**
+     * 开启或关闭systrace / Perfetto埋点，作用于所有Helper
+     * 开启后会记录子视图发现、布局膨胀、状态切换、监听器分发的耗时区段，
+     * 以及当前状态（StatusKey的id）与驻留状态数量的计数器（Android 10及以上）；关闭时几乎没有开销
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        StatusTrace.enabled = enabled;
+    }
+
+    /**
+     * 清空进程级的视图ID→状态名缓存，配置变化时由MultiStatusView自动调用
+     * 自定义容器可以在onConfigurationChanged中调用
+     */
+    public static void clearStatusIdCache() {
+        StatusIdCache.invalidate();
+    }
+
+    /**
+     * 上报当前状态与驻留状态数量计数器
+     */
+    private void traceCounters() {
+        if (!StatusTrace.enabled) {
+            return;
+        }
+        if (currentStatusCounter == null) {
+            String tag = "MultiStatus@" + Integer.toHexString(System.identityHashCode(this));
+            currentStatusCounter = tag + "#current";
+            residentCounter = tag + "#resident";
+        }
+        StatusTrace.counter(currentStatusCounter, currentStatus.getId());
+        StatusTrace.counter(residentCounter, statusViews.size());
+    }
+
+    /**
+     * 在主线程报告状态不存在
+     */
+    private void reportStatusNotFound(final String status) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            handleStatusNotFound(status);
+        } else {
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    handleStatusNotFound(status);
+                }
+            });
+        }
+    }
+
+    /**
+     * 处理状态未找到的情况
+     */
+    private void handleStatusNotFound(String status) {
+        if (debugMode) {
+            Log.w(TAG, "Status not found: " + status);
+        }
+
+        if (onStatusNotFoundListener != null) {
+            onStatusNotFoundListener.onStatusNotFound(status);
+        }
+
+        // 默认行为：保持当前状态
+        if (debugMode) {
+            Log.d(TAG, "Keeping current status: " + currentStatus);
         }
     }
 
@@ -373,9 +1998,20 @@ public class MultiStatusHelper {
      * 通知状态变化监听器
      */
     private void notifyStatusChange(String oldStatus, String newStatus) {
-        for (OnStatusChangeListener listener : statusChangeListeners) {
+        boolean traced = StatusTrace.begin(StatusTrace.SECTION_NOTIFY);
+        try {
+            dispatchStatusChange(oldStatus, newStatus);
+        } finally {
+            StatusTrace.end(traced);
+        }
+    }
+
+    private void dispatchStatusChange(String oldStatus, String newStatus) {
+        // 遍历快照：分发期间增删监听器是安全的，新增的监听器从下一次状态变化开始接收
+        OnStatusChangeListener[] listeners = statusChangeListeners;
+        for (int i = 0; i < listeners.length; i++) {
             try {
-                listener.onStatusChange(oldStatus, newStatus);
+                listeners[i].onStatusChange(oldStatus, newStatus);
             } catch (Exception e) {
                 if (debugMode) {
                     Log.e(TAG, "Error notifying status change listener", e);
@@ -387,14 +2023,43 @@ public class MultiStatusHelper {
         }
     }
 
+    private void dispatchStatusVisibility(String status, boolean shown) {
+        OnStatusVisibilityListener[] listeners = statusVisibilityListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                if (shown) {
+                    listeners[i].onStatusShown(status);
+                } else {
+                    listeners[i].onStatusHidden(status);
+                }
+            } catch (Exception e) {
+                if (debugMode) {
+                    Log.e(TAG, "Error notifying status visibility listener", e);
+                }
+                if (errorHandler != null) {
+                    errorHandler.onError(e);
+                }
+            }
+        }
+    }
+
     /**
      * 添加状态别名
      */
     @NonNull
     public MultiStatusHelper addStatusAlias(String alias, String originalStatus) {
-        View originalView = statusViews.get(originalStatus);
-        if (originalView != null) {
-            statusViews.put(alias, originalView);
+        StatusKey aliasKey = StatusKey.of(alias);
+        StatusKey originalKey = StatusKey.of(originalStatus);
+        View originalView = statusViews.get(originalKey);
+        LayoutStatus layoutStatus = layoutStatuses.get(originalKey);
+        if (originalView != null || layoutStatus != null) {
+            if (originalView != null) {
+                statusViews.put(aliasKey, originalView);
+                registeredStatuses.put(aliasKey, aliasKey);
+            }
+            if (layoutStatus != null) {
+                putLayoutStatus(aliasKey, layoutStatus);
+            }
 
             if (debugMode) {
                 Log.d(TAG, "Added status alias: " + alias + " -> " + originalStatus);
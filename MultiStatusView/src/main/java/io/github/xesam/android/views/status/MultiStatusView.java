@@ -1,17 +1,26 @@
 package io.github.xesam.android.views.status;
 
+import android.app.Activity;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.TypedArray;
 import android.util.AttributeSet;
 import android.view.View;
+import android.view.ViewGroup;
 import android.widget.FrameLayout;
 
+import androidx.annotation.AnyThread;
 import androidx.annotation.IdRes;
 import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.List;
 
+import io.github.xesam.android.status.R;
+
 /**
  * MultiStatusView 是一个支持多种状态视图切换的容器组件
  * <p>
@@ -28,6 +37,49 @@ public class MultiStatusView extends FrameLayout {
 
     private MultiStatusHelper helper;
 
+    // 状态切换期间暂存布局请求，切换结束后尺寸不变时只在容器内重新布局
+    private boolean switchingStatus = false;
+    private boolean layoutRequestedDuringSwitch = false;
+    private boolean hasMeasureSpecs = false;
+    private int lastWidthMeasureSpec;
+    private int lastHeightMeasureSpec;
+    // 切换结束后的容器内测量中，子视图的布局请求只可能来自切换引起的可见性变化
+    private boolean measuringAfterSwitch = false;
+    private final MultiStatusHelper.OnSwitchLayoutListener switchLayoutListener = new MultiStatusHelper.OnSwitchLayoutListener() {
+        @Override
+        public void onSwitchStart() {
+            // 切换前就已请求布局的子视图确实发生了变化，测量缓存失效
+            invalidateMeasureCaches();
+            switchingStatus = true;
+        }
+
+        @Override
+        public void onSwitchEnd() {
+            switchingStatus = false;
+            if (layoutRequestedDuringSwitch) {
+                layoutRequestedDuringSwitch = false;
+                layoutAfterSwitch();
+            }
+        }
+    };
+
+    // 转发系统内存回收通知给Helper
+    private final ComponentCallbacks2 trimMemoryCallbacks = new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+            helper.onTrimMemory(level);
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            helper.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        }
+    };
+
     public MultiStatusView(@NonNull Context context) {
         super(context);
         initHelper(context, null);
@@ -45,6 +97,118 @@ public class MultiStatusView extends FrameLayout {
 
     private void initHelper(Context context, AttributeSet attrs) {
         helper = new MultiStatusHelper(this, context, attrs);
+        helper.setOnSwitchLayoutListener(switchLayoutListener);
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        lastWidthMeasureSpec = widthMeasureSpec;
+        lastHeightMeasureSpec = heightMeasureSpec;
+        hasMeasureSpecs = true;
+        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+    }
+
+    /**
+     * 按状态视图缓存测量结果：MeasureSpec与上一次相同且子视图没有自行请求布局时，直接沿用上一次的尺寸，
+     * 切换回之前显示过的状态时不再重新测量整个子树
+     * 切换状态时可见性变化同样会让子视图请求布局，这类请求只在切换结束后的容器内测量中被忽略
+     */
+    @Override
+    protected void measureChildWithMargins(View child, int parentWidthMeasureSpec, int widthUsed,
+                                           int parentHeightMeasureSpec, int heightUsed) {
+        MarginLayoutParams lp = (MarginLayoutParams) child.getLayoutParams();
+        int childWidthMeasureSpec = getChildMeasureSpec(parentWidthMeasureSpec,
+                getPaddingLeft() + getPaddingRight() + lp.leftMargin + lp.rightMargin + widthUsed, lp.width);
+        int childHeightMeasureSpec = getChildMeasureSpec(parentHeightMeasureSpec,
+                getPaddingTop() + getPaddingBottom() + lp.topMargin + lp.bottomMargin + heightUsed, lp.height);
+
+        Object tag = child.getTag(R.id.msv_measure_cache);
+        MeasureCache cache = tag instanceof MeasureCache ? (MeasureCache) tag : null;
+        if (cache != null && cache.valid
+                && (measuringAfterSwitch || !child.isLayoutRequested())
+                && cache.widthMeasureSpec == childWidthMeasureSpec
+                && cache.heightMeasureSpec == childHeightMeasureSpec
+                && child.getMeasuredWidth() == cache.measuredWidth
+                && child.getMeasuredHeight() == cache.measuredHeight) {
+            return;
+        }
+
+        child.measure(childWidthMeasureSpec, childHeightMeasureSpec);
+        if (cache == null) {
+            cache = new MeasureCache();
+            child.setTag(R.id.msv_measure_cache, cache);
+        }
+        cache.widthMeasureSpec = childWidthMeasureSpec;
+        cache.heightMeasureSpec = childHeightMeasureSpec;
+        cache.measuredWidth = child.getMeasuredWidth();
+        cache.measuredHeight = child.getMeasuredHeight();
+        cache.valid = true;
+    }
+
+    /**
+     * 状态切换引起的布局请求会暂存到切换结束，由 {@link #layoutAfterSwitch()} 处理
+     */
+    @Override
+    public void requestLayout() {
+        if (switchingStatus) {
+            layoutRequestedDuringSwitch = true;
+            return;
+        }
+        super.requestLayout();
+    }
+
+    /**
+     * 已自行请求布局的子视图，测量缓存失效
+     */
+    private void invalidateMeasureCaches() {
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child.isLayoutRequested()) {
+                Object tag = child.getTag(R.id.msv_measure_cache);
+                if (tag instanceof MeasureCache) {
+                    ((MeasureCache) tag).valid = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 子视图上一次测量使用的MeasureSpec与测量结果
+     */
+    private static final class MeasureCache {
+        int widthMeasureSpec;
+        int heightMeasureSpec;
+        int measuredWidth;
+        int measuredHeight;
+        boolean valid;
+    }
+
+    /**
+     * 按上一次的MeasureSpec在容器内重新测量：尺寸不变时只在容器内重新布局，不再向上传递布局请求；
+     * 尺寸变化、尚未测量过或已有待执行的布局时，按正常流程请求布局
+     * 必须在切换结束时同步执行：切换后、下一帧之前子视图内部的布局请求（例如setText）依赖这次布局清除的标记才能传递到容器
+     */
+    private void layoutAfterSwitch() {
+        if (!hasMeasureSpecs || isLayoutRequested() || !isAttachedToWindow()) {
+            super.requestLayout();
+            return;
+        }
+        int width = getMeasuredWidth();
+        int height = getMeasuredHeight();
+        forceLayout();
+        measuringAfterSwitch = true;
+        try {
+            measure(lastWidthMeasureSpec, lastHeightMeasureSpec);
+        } finally {
+            measuringAfterSwitch = false;
+        }
+        if (getMeasuredWidth() != width || getMeasuredHeight() != height) {
+            super.requestLayout();
+            return;
+        }
+        layout(getLeft(), getTop(), getRight(), getBottom());
+        // 这次布局不经过ViewRootImpl，需要自行通知OnGlobalLayoutListener
+        getViewTreeObserver().dispatchOnGlobalLayout();
     }
 
     /**
@@ -56,6 +220,49 @@ public class MultiStatusView extends FrameLayout {
         helper.autoDiscoverChildViews();
     }
 
+    /**
+     * 配置变化时清空视图ID→状态名缓存
+     */
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        MultiStatusHelper.clearStatusIdCache();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getContext().getApplicationContext().registerComponentCallbacks(trimMemoryCallbacks);
+        helper.resumePendingCallbacks();
+    }
+
+    /**
+     * 从窗口分离时取消预热与定时任务，并将非当前状态的视图归还到视图池（仅在设置了视图池时）
+     * 所在Activity正在结束或因配置变化重建时不归还，这些视图不会再被使用
+     */
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        getContext().getApplicationContext().unregisterComponentCallbacks(trimMemoryCallbacks);
+        helper.cancelPrewarm();
+        helper.cancelPendingCallbacks();
+        if (helper.getViewPool() != null) {
+            Activity activity = StatusViewPool.findActivity(getContext());
+            if (activity == null || StatusViewPool.isActivityAlive(activity)) {
+                helper.releaseStatuses();
+            }
+        }
+    }
+
+    /**
+     * 模式1：XML内嵌方式 - 按构建时生成的注册表注册子视图
+     */
+    @NonNull
+    public MultiStatusView registerStatuses(@NonNull StatusRegistry registry) {
+        helper.registerStatuses(registry);
+        return this;
+    }
+
     /**
      * 模式2：资源ID方式 - 注册已存在的视图
      */
@@ -93,22 +300,161 @@ public class MultiStatusView extends FrameLayout {
     }
 
     /**
-     * 切换到指定状态
+     * 模式3：布局资源方式 - 延迟注册，首次切换到该状态时才膨胀布局
+     */
+    @NonNull
+    public MultiStatusView registerStatusByLayoutLazy(String status, @LayoutRes int layoutRes) {
+        helper.registerStatusByLayoutLazy(status, layoutRes);
+        return this;
+    }
+
+    /**
+     * 模式3：布局资源方式 - 带回调的延迟注册
+     */
+    @NonNull
+    public MultiStatusView registerStatusByLayoutLazy(String status, @LayoutRes int layoutRes, @Nullable MultiStatusHelper.OnViewCreatedListener onViewCreated) {
+        helper.registerStatusByLayoutLazy(status, layoutRes, onViewCreated);
+        return this;
+    }
+
+    /**
+     * 模式3：布局资源方式 - 异步注册，在后台线程膨胀布局
      */
     @NonNull
+    public MultiStatusView registerStatusByLayoutAsync(String status, @LayoutRes int layoutRes) {
+        helper.registerStatusByLayoutAsync(status, layoutRes);
+        return this;
+    }
+
+    /**
+     * 模式3：布局资源方式 - 带回调的异步注册
+     */
+    @NonNull
+    public MultiStatusView registerStatusByLayoutAsync(String status, @LayoutRes int layoutRes, @Nullable MultiStatusHelper.OnViewCreatedListener onViewCreated) {
+        helper.registerStatusByLayoutAsync(status, layoutRes, onViewCreated);
+        return this;
+    }
+
+    /**
+     * 切换到指定状态，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
     public MultiStatusView setStatus(String status) {
         helper.setStatus(status);
         return this;
     }
 
     /**
-     * 获取当前状态
+     * 绑定状态数据源，attach到窗口期间应用数据源的最新状态
+     */
+    @MainThread
+    @NonNull
+    public StatusBinding bindStatusSource(@NonNull StatusSource source) {
+        return helper.bindStatusSource(source);
+    }
+
+    /**
+     * 创建由调用方控制启停的状态数据源绑定
+     */
+    @NonNull
+    public StatusBinding createStatusBinding(@NonNull StatusSource source) {
+        return helper.createStatusBinding(source);
+    }
+
+    /**
+     * 切换到指定状态，并把数据交给该状态注册的StatusBinder
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView setStatus(@NonNull String status, @Nullable Object payload) {
+        helper.setStatus(status, payload);
+        return this;
+    }
+
+    /**
+     * 通过状态键切换到指定状态，并把数据交给该状态注册的StatusBinder
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView setStatus(@NonNull StatusKey status, @Nullable Object payload) {
+        helper.setStatus(status, payload);
+        return this;
+    }
+
+    /**
+     * 设置状态的显示延迟与最短显示时间，避免快速切换时状态闪烁
+     */
+    @NonNull
+    public MultiStatusView setStatusTiming(@NonNull String status, long showDelayMillis, long minDisplayMillis) {
+        helper.setStatusTiming(status, showDelayMillis, minDisplayMillis);
+        return this;
+    }
+
+    /**
+     * 开启或关闭合并切换，开启后同一帧内多次setStatus只应用最后一次
+     */
+    @NonNull
+    public MultiStatusView setCoalesceStatusChanges(boolean coalesce) {
+        helper.setCoalesceStatusChanges(coalesce);
+        return this;
+    }
+
+    /**
+     * 开始事务，commit之前的setStatus只记录目标状态
+     */
+    @NonNull
+    public MultiStatusView beginTransaction() {
+        helper.beginTransaction();
+        return this;
+    }
+
+    /**
+     * 提交事务，应用事务中最后一次请求的状态
+     */
+    @NonNull
+    public MultiStatusView commit() {
+        helper.commit();
+        return this;
+    }
+
+    /**
+     * 设置状态切换策略
+     */
+    @NonNull
+    public MultiStatusView setSwitchStrategy(@NonNull StatusSwitchStrategy strategy) {
+        helper.setSwitchStrategy(strategy);
+        return this;
+    }
+
+    /**
+     * 通过状态键切换到指定状态，目标状态已膨胀时不分配对象，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
+    public MultiStatusView setStatus(@NonNull StatusKey status) {
+        helper.setStatus(status);
+        return this;
+    }
+
+    /**
+     * 获取当前状态，可在任意线程调用
      */
+    @AnyThread
     @NonNull
     public String getCurrentStatus() {
         return helper.getCurrentStatus();
     }
 
+    /**
+     * 获取当前状态键，可在任意线程调用
+     */
+    @AnyThread
+    @NonNull
+    public StatusKey getCurrentStatusKey() {
+        return helper.getCurrentStatusKey();
+    }
+
     /**
      * 获取指定状态的视图
      */
@@ -125,6 +471,68 @@ public class MultiStatusView extends FrameLayout {
         return helper.getRegisteredStatuses();
     }
 
+    /**
+     * 获取所有已注册状态的内存占用报告
+     */
+    @NonNull
+    public StatusMemoryReport getMemoryReport() {
+        return helper.getMemoryReport();
+    }
+
+    /**
+     * 叠加显示状态，不隐藏当前状态
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView showOverlay(@NonNull String status) {
+        helper.showOverlay(status);
+        return this;
+    }
+
+    /**
+     * 隐藏叠加状态
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView hideOverlay(@NonNull String status) {
+        helper.hideOverlay(status);
+        return this;
+    }
+
+    /**
+     * 状态是否正在显示（当前状态或叠加状态）
+     */
+    public boolean isStatusActive(@NonNull String status) {
+        return helper.isStatusActive(status);
+    }
+
+    /**
+     * 设置状态的层级，值大的显示在上层
+     */
+    @NonNull
+    public MultiStatusView setStatusZOrder(@NonNull String status, int zOrder) {
+        helper.setStatusZOrder(status, zOrder);
+        return this;
+    }
+
+    /**
+     * 添加状态显示/隐藏监听器
+     */
+    @NonNull
+    public MultiStatusView addOnStatusVisibilityListener(@NonNull OnStatusVisibilityListener listener) {
+        helper.addOnStatusVisibilityListener(listener);
+        return this;
+    }
+
+    /**
+     * 移除状态显示/隐藏监听器
+     */
+    @NonNull
+    public MultiStatusView removeOnStatusVisibilityListener(@NonNull OnStatusVisibilityListener listener) {
+        helper.removeOnStatusVisibilityListener(listener);
+        return this;
+    }
+
     /**
      * 添加状态变化监听器
      */
@@ -179,6 +587,90 @@ public class MultiStatusView extends FrameLayout {
         return this;
     }
 
+    /**
+     * 在主线程空闲时按优先级顺序预热延迟注册的状态
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView startIdlePrewarm(String... statuses) {
+        helper.startIdlePrewarm(statuses);
+        return this;
+    }
+
+    /**
+     * 设置状态切换模型，用于预热最可能出现的下一个状态
+     */
+    @NonNull
+    public MultiStatusView setTransitionModel(@Nullable StatusTransitionModel model) {
+        helper.setTransitionModel(model);
+        return this;
+    }
+
+    /**
+     * 设置驻留策略，按LRU顺序回收非当前状态的视图
+     */
+    @NonNull
+    public MultiStatusView setResidencyPolicy(int maxResidentStatuses, long residencyTimeoutMillis) {
+        helper.setResidencyPolicy(maxResidentStatuses, residencyTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * 固定状态，固定的状态不会被驻留策略回收
+     */
+    @NonNull
+    public MultiStatusView pinStatus(String status) {
+        helper.pinStatus(status);
+        return this;
+    }
+
+    /**
+     * 取消固定状态
+     */
+    @NonNull
+    public MultiStatusView unpinStatus(String status) {
+        helper.unpinStatus(status);
+        return this;
+    }
+
+    /**
+     * 设置视图池，布局资源方式注册的状态视图会在多个MultiStatusView之间复用
+     */
+    @NonNull
+    public MultiStatusView setViewPool(@Nullable StatusViewPool pool) {
+        helper.setViewPool(pool);
+        return this;
+    }
+
+    /**
+     * 列表行模式：绑定ViewHolder时切换到该行的状态，只保留正在显示的状态视图
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView bindRowStatus(@NonNull StatusKey status) {
+        helper.bindRowStatus(status);
+        return this;
+    }
+
+    /**
+     * 列表行模式：ViewHolder被回收时把状态视图归还到视图池
+     */
+    @MainThread
+    @NonNull
+    public MultiStatusView recycleRow() {
+        helper.recycleRow();
+        return this;
+    }
+
+    /**
+     * 释放指定状态的视图并归还到视图池
+     */
+    @NonNull
+    public MultiStatusView releaseStatus(String status) {
+        helper.releaseStatus(status);
+        return this;
+    }
+
     /**
      * 获取Helper实例（用于高级用法）
      */
@@ -186,4 +678,82 @@ public class MultiStatusView extends FrameLayout {
     protected MultiStatusHelper getHelper() {
         return helper;
     }
+
+    @Override
+    public LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new LayoutParams(getContext(), attrs);
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT);
+    }
+
+    @Override
+    protected ViewGroup.LayoutParams generateLayoutParams(ViewGroup.LayoutParams lp) {
+        if (lp instanceof LayoutParams) {
+            return new LayoutParams((LayoutParams) lp);
+        } else if (lp instanceof FrameLayout.LayoutParams) {
+            return new LayoutParams((FrameLayout.LayoutParams) lp);
+        } else if (lp instanceof MarginLayoutParams) {
+            return new LayoutParams((MarginLayoutParams) lp);
+        }
+        return new LayoutParams(lp);
+    }
+
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof LayoutParams;
+    }
+
+    /**
+     * MultiStatusView的子视图布局参数，支持通过 app:layout_status 直接声明子视图对应的状态
+     * 状态名在膨胀时解析一次，自动发现时无需解析视图ID，也不受资源名称混淆的影响
+     */
+    public static class LayoutParams extends FrameLayout.LayoutParams implements StatusLayoutParams {
+
+        @Nullable
+        private String status;
+
+        public LayoutParams(@NonNull Context c, @Nullable AttributeSet attrs) {
+            super(c, attrs);
+            TypedArray typedArray = c.obtainStyledAttributes(attrs, R.styleable.MultiStatusView_Layout);
+            try {
+                status = typedArray.getString(R.styleable.MultiStatusView_Layout_layout_status);
+            } finally {
+                typedArray.recycle();
+            }
+        }
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+
+        public LayoutParams(@NonNull ViewGroup.LayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(@NonNull MarginLayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(@NonNull FrameLayout.LayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(@NonNull LayoutParams source) {
+            super((FrameLayout.LayoutParams) source);
+            status = source.status;
+        }
+
+        @Nullable
+        @Override
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(@Nullable String status) {
+            this.status = status;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.github.xesam.android.views.status;
+
+/**
+ * 状态显示/隐藏监听器接口
+ * 与OnStatusChangeListener不同，主状态切换与叠加状态（overlay）的显示、隐藏都会分别回调
+ */
+public interface OnStatusVisibilityListener {
+    /**
+     * 状态视图显示时调用
+     *
+     * @param status 状态名称
+     */
+    void onStatusShown(String status);
+
+    /**
+     * 状态视图隐藏时调用
+     *
+     * @param status 状态名称
+     */
+    void onStatusHidden(String status);
+}
@@ -0,0 +1,107 @@
+package io.github.xesam.android.views.status;
+
+import android.util.SparseIntArray;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+/**
+ * 列表中每一行的状态，按adapter position保存
+ * <p>
+ * 只保存状态键的id，处于默认状态的行不占用空间；配合 {@link MultiStatusHelper#bindRowStatus(StatusKey)}
+ * 与 {@link MultiStatusHelper#recycleRow()} 使用：
+ * <pre>
+ * onBindViewHolder: holder.statusView.bindRowStatus(rowStatuses.getStatus(position))
+ * onViewRecycled:   holder.statusView.recycleRow()
+ * </pre>
+ * 数据集结构变化时需要同步调用onItemRangeInserted / onItemRangeRemoved / onItemRangeMoved
+ */
+@MainThread
+public final class RowStatusStore {
+
+    private final StatusKey defaultStatus;
+    private SparseIntArray statusIds = new SparseIntArray();
+
+    public RowStatusStore(@NonNull String defaultStatus) {
+        this.defaultStatus = StatusKey.of(defaultStatus);
+    }
+
+    public void setStatus(int position, @NonNull String status) {
+        setStatus(position, StatusKey.of(status));
+    }
+
+    public void setStatus(int position, @NonNull StatusKey status) {
+        if (status == defaultStatus) {
+            statusIds.delete(position);
+        } else {
+            statusIds.put(position, status.getId());
+        }
+    }
+
+    @NonNull
+    public StatusKey getStatus(int position) {
+        int index = statusIds.indexOfKey(position);
+        if (index < 0) {
+            return defaultStatus;
+        }
+        StatusKey status = StatusKey.fromId(statusIds.valueAt(index));
+        return status != null ? status : defaultStatus;
+    }
+
+    /**
+     * 在positionStart处插入了itemCount行，其后的行后移
+     */
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        SparseIntArray shifted = new SparseIntArray(statusIds.size());
+        for (int i = 0; i < statusIds.size(); i++) {
+            int position = statusIds.keyAt(i);
+            shifted.append(position >= positionStart ? position + itemCount : position, statusIds.valueAt(i));
+        }
+        statusIds = shifted;
+    }
+
+    /**
+     * 从positionStart处移除了itemCount行，其后的行前移
+     */
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        SparseIntArray shifted = new SparseIntArray(statusIds.size());
+        for (int i = 0; i < statusIds.size(); i++) {
+            int position = statusIds.keyAt(i);
+            if (position < positionStart) {
+                shifted.append(position, statusIds.valueAt(i));
+            } else if (position >= positionStart + itemCount) {
+                shifted.append(position - itemCount, statusIds.valueAt(i));
+            }
+        }
+        statusIds = shifted;
+    }
+
+    /**
+     * 从fromPosition开始的itemCount行移动到了toPosition，两者之间的行相应前移或后移
+     */
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+        if (fromPosition == toPosition || itemCount <= 0) {
+            return;
+        }
+        SparseIntArray shifted = new SparseIntArray(statusIds.size());
+        for (int i = 0; i < statusIds.size(); i++) {
+            int position = statusIds.keyAt(i);
+            int newPosition = position;
+            if (position >= fromPosition && position < fromPosition + itemCount) {
+                newPosition = position - fromPosition + toPosition;
+            } else if (fromPosition < toPosition) {
+                if (position >= fromPosition + itemCount && position < toPosition + itemCount) {
+                    newPosition = position - itemCount;
+                }
+            } else if (position >= toPosition && position < fromPosition) {
+                newPosition = position + itemCount;
+            }
+            shifted.put(newPosition, statusIds.valueAt(i));
+        }
+        statusIds = shifted;
+    }
+
+    public void clear() {
+        statusIds.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.xesam.android.views.status;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 状态布局的异步膨胀器
+ * 在后台线程膨胀布局，完成后回到主线程回调，由调用方负责addView
+ * 后台膨胀失败时回调null，由调用方在主线程降级为同步膨胀
+ */
+final class StatusAsyncInflater {
+
+    private static final String TAG = "StatusAsyncInflater";
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "MultiStatusInflater");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * 异步膨胀完成回调，总是在主线程触发
+     */
+    interface Callback {
+        void onInflateFinished(@Nullable View view);
+    }
+
+    private StatusAsyncInflater() {
+    }
+
+    /**
+     * @param debugMode 是否输出后台膨胀失败的日志
+     */
+    static void inflate(@NonNull final Context context, @LayoutRes final int layoutRes,
+                        @NonNull final ViewGroup parent, final boolean debugMode, @NonNull final Callback callback) {
+        EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                View view = null;
+                try {
+                    // LayoutInflater实例不是线程安全的，后台线程使用独立的副本
+                    LayoutInflater inflater = LayoutInflater.from(context).cloneInContext(context);
+                    view = inflater.inflate(layoutRes, parent, false);
+                } catch (RuntimeException e) {
+                    if (debugMode) {
+                        Log.w(TAG, "Failed to inflate layout " + layoutRes + " in background, falling back to main thread", e);
+                    }
+                }
+
+                final View result = view;
+                MAIN_HANDLER.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onInflateFinished(result);
+                    }
+                });
+            }
+        });
+    }
+}
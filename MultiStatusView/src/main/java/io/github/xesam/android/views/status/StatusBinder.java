@@ -0,0 +1,68 @@
+package io.github.xesam.android.views.status;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * 带类型的状态视图绑定器，作为OnViewCreatedListener传给registerStatusByLayout系列方法
+ * <p>
+ * 视图创建时在 {@link #onCreate(View)} 中缓存子视图引用，之后通过
+ * {@link MultiStatusHelper#setStatus(String, Object)} 传入数据时回调 {@link #onBind(Object)}；
+ * 数据与上一次绑定的数据相等（equals）时跳过绑定。视图在膨胀前传入的数据会在创建后立即绑定
+ * <p>
+ * 绑定器保存了视图与数据，每个实例只能注册到一个状态
+ */
+public abstract class StatusBinder<T> implements MultiStatusHelper.OnViewCreatedListener {
+
+    private static final Object NONE = new Object();
+
+    private boolean created = false;
+    @Nullable
+    private Object payload = NONE;
+    @Nullable
+    private Object boundPayload = NONE;
+
+    /**
+     * 视图创建（或从视图池复用）时回调，在此缓存子视图引用
+     */
+    protected abstract void onCreate(@NonNull View view);
+
+    /**
+     * 绑定数据，数据与上一次相同时不会回调
+     */
+    protected abstract void onBind(@Nullable T payload);
+
+    @Override
+    public final void onViewCreated(View view) {
+        onCreate(view);
+        created = true;
+        boundPayload = NONE;
+        dispatch();
+    }
+
+    final void setPayload(@Nullable Object payload) {
+        this.payload = payload;
+        dispatch();
+    }
+
+    /**
+     * 视图被释放（归还到视图池）后不再绑定，直到重新创建
+     */
+    final void onViewReleased() {
+        created = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch() {
+        if (!created || payload == NONE) {
+            return;
+        }
+        if (boundPayload != NONE && (boundPayload == null ? payload == null : boundPayload.equals(payload))) {
+            return;
+        }
+        boundPayload = payload;
+        onBind((T) payload);
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.xesam.android.views.status;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * StatusSource与MultiStatusHelper之间的绑定
+ * <p>
+ * 数据源的回调会被合并：无论回调多少次、来自哪个线程，主线程上最多只有一个待执行的消息，执行时只应用最新的状态。
+ * 停止期间取消订阅，不再接收也不再应用任何状态，重新开始时由数据源回调当前状态
+ */
+public final class StatusBinding {
+
+    private final MultiStatusHelper helper;
+    private final StatusSource source;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // 只保留最新的状态名，未注册的状态名同样经过这里，由Helper在主线程报告
+    private final AtomicReference<String> latestStatus = new AtomicReference<>();
+    @Nullable
+    private StatusSource.Subscription subscription;
+    private boolean unbound = false;
+    // 跟随容器的attach状态启停，为null时由调用方控制
+    @Nullable
+    private View attachedView;
+
+    private final StatusSource.Observer observer = new StatusSource.Observer() {
+        @Override
+        public void onStatus(@NonNull String status) {
+            if (latestStatus.getAndSet(status) == null) {
+                mainHandler.post(applyLatest);
+            }
+        }
+    };
+
+    private final Runnable applyLatest = new Runnable() {
+        @Override
+        public void run() {
+            String status = latestStatus.getAndSet(null);
+            if (status != null && subscription != null) {
+                helper.setStatus(status);
+            }
+        }
+    };
+
+    private final View.OnAttachStateChangeListener attachStateListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View v) {
+            start();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View v) {
+            stop();
+        }
+    };
+
+    StatusBinding(@NonNull MultiStatusHelper helper, @NonNull StatusSource source) {
+        this.helper = helper;
+        this.source = source;
+    }
+
+    /**
+     * 跟随视图的attach状态启停
+     */
+    void followAttachState(@NonNull View view) {
+        attachedView = view;
+        view.addOnAttachStateChangeListener(attachStateListener);
+        if (view.isAttachedToWindow()) {
+            start();
+        }
+    }
+
+    /**
+     * 订阅数据源，开始应用状态
+     */
+    @MainThread
+    public void start() {
+        if (unbound || subscription != null) {
+            return;
+        }
+        subscription = source.subscribe(observer);
+    }
+
+    /**
+     * 取消订阅，丢弃尚未应用的状态
+     */
+    @MainThread
+    public void stop() {
+        StatusSource.Subscription current = subscription;
+        if (current == null) {
+            return;
+        }
+        subscription = null;
+        current.cancel();
+        // 先移除消息再清空，保证之后的回调能重新投递
+        mainHandler.removeCallbacks(applyLatest);
+        latestStatus.set(null);
+    }
+
+    /**
+     * 解除绑定，之后无法再次启动
+     */
+    @MainThread
+    public void unbind() {
+        stop();
+        unbound = true;
+        if (attachedView != null) {
+            attachedView.removeOnAttachStateChangeListener(attachStateListener);
+            attachedView = null;
+        }
+    }
+
+    public boolean isStarted() {
+        return subscription != null;
+    }
+}
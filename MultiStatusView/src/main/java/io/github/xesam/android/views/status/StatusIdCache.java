@@ -0,0 +1,78 @@
+package io.github.xesam.android.views.status;
+
+import android.content.res.Resources;
+import android.util.SparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 进程级的视图ID→状态名缓存
+ * <p>
+ * 自动发现子视图时需要通过Resources.getResourceName解析ID名称，
+ * 同一个布局反复膨胀（列表项、Fragment重建）时结果总是相同，缓存后每个子视图只需一次查找
+ * 缓存按前缀分组，同时缓存"不是状态视图"的否定结果；配置变化时整体失效
+ */
+final class StatusIdCache {
+
+    private static final Object NO_STATUS = new Object();
+    private static final Map<String, SparseArray<Object>> CACHE = new HashMap<>();
+
+    private StatusIdCache() {
+    }
+
+    /**
+     * 解析视图ID对应的状态名
+     *
+     * @return 状态名；ID没有资源名称或不匹配前缀时返回null
+     */
+    @Nullable
+    static String resolve(@NonNull Resources resources, int viewId, @NonNull String prefix) {
+        synchronized (CACHE) {
+            SparseArray<Object> statuses = CACHE.get(prefix);
+            if (statuses != null) {
+                Object cached = statuses.get(viewId);
+                if (cached != null) {
+                    return cached == NO_STATUS ? null : (String) cached;
+                }
+            }
+        }
+
+        String status = lookup(resources, viewId, prefix);
+
+        synchronized (CACHE) {
+            SparseArray<Object> statuses = CACHE.get(prefix);
+            if (statuses == null) {
+                statuses = new SparseArray<>();
+                CACHE.put(prefix, statuses);
+            }
+            statuses.put(viewId, status != null ? status : NO_STATUS);
+        }
+        return status;
+    }
+
+    /**
+     * 清空缓存
+     */
+    static void invalidate() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    @Nullable
+    private static String lookup(Resources resources, int viewId, String prefix) {
+        String idResName;
+        try {
+            idResName = resources.getResourceName(viewId);
+        } catch (Resources.NotFoundException e) {
+            // 代码生成的ID没有资源名称
+            return null;
+        }
+        String idName = idResName.substring(idResName.indexOf('/') + 1);
+        return idName.startsWith(prefix) ? idName.substring(prefix.length()) : null;
+    }
+}
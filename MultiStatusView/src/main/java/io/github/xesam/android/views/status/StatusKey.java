@@ -0,0 +1,90 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 状态键：进程内唯一的状态句柄
+ * <p>
+ * 同名状态总是返回同一个实例，可以直接用==比较；每个状态键拥有一个从0开始的连续id，
+ * MultiStatusHelper以该id为下标把状态视图保存在数组中，使用状态键切换状态时无需哈希查找，也不会分配对象
+ * <p>
+ * 建议将常用状态保存为常量：
+ * <pre>
+ * static final StatusKey LOADING = StatusKey.of("loading");
+ * </pre>
+ */
+public final class StatusKey {
+
+    private static final Map<String, StatusKey> KEYS = new HashMap<>();
+    // 按id保存，写入时复制，读取无需加锁
+    private static volatile StatusKey[] keysById = new StatusKey[0];
+
+    private final int id;
+    private final String name;
+
+    private StatusKey(int id, @NonNull String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * 获取指定名称的状态键，不存在时创建，线程安全
+     */
+    @NonNull
+    public static StatusKey of(@NonNull String name) {
+        synchronized (KEYS) {
+            StatusKey key = KEYS.get(name);
+            if (key == null) {
+                key = new StatusKey(KEYS.size(), name);
+                KEYS.put(name, key);
+                StatusKey[] byId = new StatusKey[key.id + 1];
+                System.arraycopy(keysById, 0, byId, 0, key.id);
+                byId[key.id] = key;
+                keysById = byId;
+            }
+            return key;
+        }
+    }
+
+    /**
+     * 查找指定名称的状态键，不存在时返回null且不会创建，线程安全
+     * 用于只读查询，避免任意字符串（例如拼写错误的状态名）被永久保留
+     */
+    @Nullable
+    public static StatusKey find(@NonNull String name) {
+        synchronized (KEYS) {
+            return KEYS.get(name);
+        }
+    }
+
+    /**
+     * 根据id获取状态键，id不存在时返回null
+     */
+    @Nullable
+    static StatusKey fromId(int id) {
+        StatusKey[] byId = keysById;
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    /**
+     * 进程内唯一的连续id
+     */
+    public int getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.Nullable;
+
+/**
+ * 声明了状态名的子视图布局参数
+ * 容器的LayoutParams实现该接口后，自动发现子视图时直接读取状态名，无需解析视图ID
+ */
+public interface StatusLayoutParams {
+
+    /**
+     * 子视图对应的状态名，未声明时返回null
+     */
+    @Nullable
+    String getStatus();
+}
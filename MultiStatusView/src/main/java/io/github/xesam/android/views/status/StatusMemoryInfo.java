@@ -0,0 +1,69 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 单个状态的内存占用估算
+ */
+public final class StatusMemoryInfo {
+
+    /**
+     * 状态视图的驻留情况
+     */
+    public enum State {
+        /**
+         * 延迟注册，尚未膨胀（或已被回收）
+         */
+        DEFERRED,
+        /**
+         * 已膨胀，但不在容器中
+         */
+        INFLATED,
+        /**
+         * 已膨胀并添加到容器
+         */
+        ATTACHED
+    }
+
+    private final String status;
+    private final State state;
+    private final int viewCount;
+    private final long estimatedBytes;
+
+    StatusMemoryInfo(@NonNull String status, @NonNull State state, int viewCount, long estimatedBytes) {
+        this.status = status;
+        this.state = state;
+        this.viewCount = viewCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    @NonNull
+    public String getStatus() {
+        return status;
+    }
+
+    @NonNull
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 状态视图树中的视图数量（包含根视图）
+     */
+    public int getViewCount() {
+        return viewCount;
+    }
+
+    /**
+     * 视图树中背景与图片Drawable持有的位图字节数估算
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StatusMemoryInfo{" + status + ", " + state + ", views=" + viewCount + ", bytes=" + estimatedBytes + "}";
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.xesam.android.views.status;
+
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.LayerDrawable;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MultiStatusHelper 所有已注册状态的内存占用报告
+ * <p>
+ * 位图大小只统计BitmapDrawable（包括LayerDrawable及状态Drawable当前显示的层），
+ * 同一个位图只计算一次；其他Drawable无法可靠估算，不计入
+ */
+public final class StatusMemoryReport {
+
+    private final List<StatusMemoryInfo> statuses;
+    private final int totalViewCount;
+    private final long totalEstimatedBytes;
+
+    StatusMemoryReport(@NonNull List<StatusMemoryInfo> statuses, int totalViewCount, long totalEstimatedBytes) {
+        this.statuses = Collections.unmodifiableList(statuses);
+        this.totalViewCount = totalViewCount;
+        this.totalEstimatedBytes = totalEstimatedBytes;
+    }
+
+    /**
+     * 各状态的内存占用，别名与原状态共享的视图只计入一次
+     */
+    @NonNull
+    public List<StatusMemoryInfo> getStatuses() {
+        return statuses;
+    }
+
+    @Nullable
+    public StatusMemoryInfo getStatus(@NonNull String status) {
+        for (StatusMemoryInfo info : statuses) {
+            if (info.getStatus().equals(status)) {
+                return info;
+            }
+        }
+        return null;
+    }
+
+    public int getTotalViewCount() {
+        return totalViewCount;
+    }
+
+    public long getTotalEstimatedBytes() {
+        return totalEstimatedBytes;
+    }
+
+    /**
+     * 视图树的统计结果
+     */
+    static final class Cost {
+        int viewCount;
+        long estimatedBytes;
+    }
+
+    /**
+     * 统计视图树中的视图数量与位图字节数
+     *
+     * @param counted 已统计的位图，用于去重
+     */
+    @NonNull
+    static Cost measure(@NonNull View view, @NonNull Map<Bitmap, Boolean> counted) {
+        Cost cost = new Cost();
+        measureInto(view, counted, cost);
+        return cost;
+    }
+
+    @NonNull
+    static Map<Bitmap, Boolean> newBitmapSet() {
+        return new IdentityHashMap<>();
+    }
+
+    private static void measureInto(View view, Map<Bitmap, Boolean> counted, Cost cost) {
+        cost.viewCount++;
+        cost.estimatedBytes += drawableBytes(view.getBackground(), counted);
+        if (view instanceof ImageView) {
+            cost.estimatedBytes += drawableBytes(((ImageView) view).getDrawable(), counted);
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                measureInto(group.getChildAt(i), counted, cost);
+            }
+        }
+    }
+
+    private static long drawableBytes(@Nullable Drawable drawable, Map<Bitmap, Boolean> counted) {
+        if (drawable == null) {
+            return 0;
+        }
+        if (drawable instanceof LayerDrawable) {
+            LayerDrawable layers = (LayerDrawable) drawable;
+            long bytes = 0;
+            for (int i = 0; i < layers.getNumberOfLayers(); i++) {
+                bytes += drawableBytes(layers.getDrawable(i), counted);
+            }
+            return bytes;
+        }
+        Drawable current = drawable.getCurrent();
+        if (current != drawable) {
+            return drawableBytes(current, counted);
+        }
+        if (drawable instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+            if (bitmap == null || bitmap.isRecycled() || counted.put(bitmap, Boolean.TRUE) != null) {
+                return 0;
+            }
+            return bitmap.getAllocationByteCount();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.IdRes;
+import androidx.annotation.NonNull;
+
+/**
+ * 状态→视图ID的注册表
+ * <p>
+ * 通常由构建插件根据布局XML生成（见MultiStatusView-registry），
+ * 配合 app:autoDiscover="false" 使用时，运行时无需解析资源名称即可完成XML内嵌方式的状态注册
+ */
+public final class StatusRegistry {
+
+    private final String[] statuses;
+    private final int[] viewIds;
+
+    public StatusRegistry(@NonNull String[] statuses, @NonNull int[] viewIds) {
+        if (statuses.length != viewIds.length) {
+            throw new IllegalArgumentException("statuses and viewIds must have the same length");
+        }
+        this.statuses = statuses;
+        this.viewIds = viewIds;
+    }
+
+    public int size() {
+        return statuses.length;
+    }
+
+    @NonNull
+    public String getStatus(int index) {
+        return statuses[index];
+    }
+
+    @IdRes
+    public int getViewId(int index) {
+        return viewIds[index];
+    }
+}
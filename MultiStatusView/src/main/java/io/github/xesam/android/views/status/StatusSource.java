@@ -0,0 +1,33 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.AnyThread;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+/**
+ * 状态数据源，通过 {@link MultiStatusHelper#bindStatusSource(StatusSource)} 绑定到容器
+ * <p>
+ * 订阅时应立即回调当前状态（如果有），之后在状态变化时回调；回调可以发生在任意线程
+ */
+public interface StatusSource {
+
+    /**
+     * 状态观察者
+     */
+    interface Observer {
+        @AnyThread
+        void onStatus(@NonNull String status);
+    }
+
+    /**
+     * 订阅句柄
+     */
+    interface Subscription {
+        @MainThread
+        void cancel();
+    }
+
+    @MainThread
+    @NonNull
+    Subscription subscribe(@NonNull Observer observer);
+}
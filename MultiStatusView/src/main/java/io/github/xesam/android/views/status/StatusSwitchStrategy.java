@@ -0,0 +1,92 @@
+package io.github.xesam.android.views.status;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 状态切换策略接口
+ * 决定状态视图如何显示与隐藏，MultiStatusHelper在切换状态时先隐藏旧视图，再显示新视图
+ */
+public interface StatusSwitchStrategy {
+
+    /**
+     * 显示状态视图
+     */
+    void show(@NonNull ViewGroup container, @NonNull View view);
+
+    /**
+     * 隐藏状态视图
+     */
+    void hide(@NonNull ViewGroup container, @NonNull View view);
+
+    /**
+     * 默认策略：隐藏时设置为GONE，视图保留在容器中
+     */
+    StatusSwitchStrategy GONE = new StatusSwitchStrategy() {
+        @Override
+        public void show(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.VISIBLE);
+        }
+
+        @Override
+        public void hide(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.GONE);
+        }
+    };
+
+    /**
+     * 隐藏时设置为INVISIBLE，隐藏的视图仍参与测量，容器尺寸保持稳定
+     */
+    StatusSwitchStrategy INVISIBLE = new StatusSwitchStrategy() {
+        @Override
+        public void show(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.VISIBLE);
+        }
+
+        @Override
+        public void hide(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.INVISIBLE);
+        }
+    };
+
+    /**
+     * 隐藏时将视图从容器中移除（removeView），显示时重新添加到容器
+     * 隐藏的视图不再参与容器的测量、布局与事件分发；重新添加的视图位于最上层
+     */
+    StatusSwitchStrategy DETACH = new StatusSwitchStrategy() {
+        @Override
+        public void show(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.VISIBLE);
+            if (view.getParent() == null) {
+                container.addView(view);
+            }
+        }
+
+        @Override
+        public void hide(@NonNull ViewGroup container, @NonNull View view) {
+            if (view.getParent() == container) {
+                container.removeView(view);
+            }
+        }
+    };
+
+    /**
+     * 只修改透明度，视图保持VISIBLE，切换时不触发重新布局
+     * 注意：透明的视图仍会接收触摸事件，适合不可交互的覆盖状态
+     */
+    StatusSwitchStrategy ALPHA = new StatusSwitchStrategy() {
+        @Override
+        public void show(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.VISIBLE);
+            view.setAlpha(1f);
+        }
+
+        @Override
+        public void hide(@NonNull ViewGroup container, @NonNull View view) {
+            view.setVisibility(View.VISIBLE);
+            view.setAlpha(0f);
+        }
+    };
+}
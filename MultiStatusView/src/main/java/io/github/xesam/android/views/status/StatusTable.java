@@ -0,0 +1,75 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * 以 {@link StatusKey#getId()} 为下标的状态表
+ * 查找、写入不做哈希计算；同时按写入顺序保存键，支持按下标遍历而无需分配迭代器
+ */
+final class StatusTable<V> {
+
+    private Object[] values = new Object[8];
+    private StatusKey[] keys = new StatusKey[4];
+    private int size = 0;
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    V get(@NonNull StatusKey key) {
+        int id = key.getId();
+        return id < values.length ? (V) values[id] : null;
+    }
+
+    void put(@NonNull StatusKey key, @NonNull V value) {
+        int id = key.getId();
+        if (id >= values.length) {
+            Object[] newValues = new Object[Math.max(id + 1, values.length * 2)];
+            System.arraycopy(values, 0, newValues, 0, values.length);
+            values = newValues;
+        }
+        if (values[id] == null) {
+            if (size == keys.length) {
+                StatusKey[] newKeys = new StatusKey[size * 2];
+                System.arraycopy(keys, 0, newKeys, 0, size);
+                keys = newKeys;
+            }
+            keys[size++] = key;
+        }
+        values[id] = value;
+    }
+
+    @Nullable
+    V remove(@NonNull StatusKey key) {
+        V value = get(key);
+        if (value == null) {
+            return null;
+        }
+        values[key.getId()] = null;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                keys[--size] = null;
+                break;
+            }
+        }
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @NonNull
+    StatusKey keyAt(int index) {
+        return keys[index];
+    }
+
+    @NonNull
+    V valueAt(int index) {
+        V value = get(keys[index]);
+        if (value == null) {
+            throw new IllegalStateException("Missing value for " + keys[index]);
+        }
+        return value;
+    }
+}
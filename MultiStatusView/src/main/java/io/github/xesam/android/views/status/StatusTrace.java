@@ -0,0 +1,50 @@
+package io.github.xesam.android.views.status;
+
+import android.os.Build;
+import android.os.Trace;
+
+import androidx.annotation.NonNull;
+
+/**
+ * MultiStatusHelper 的systrace / Perfetto埋点
+ * 关闭时每个埋点只有一次静态字段判断；区段名称均为常量，不产生字符串拼接
+ */
+final class StatusTrace {
+
+    static final String SECTION_DISCOVER = "MultiStatus#autoDiscover";
+    static final String SECTION_INFLATE = "MultiStatus#inflate";
+    static final String SECTION_SET_STATUS = "MultiStatus#setStatus";
+    static final String SECTION_NOTIFY = "MultiStatus#notifyStatusChange";
+
+    static volatile boolean enabled = false;
+
+    private StatusTrace() {
+    }
+
+    /**
+     * 开始区段，返回是否真正开始；调用方把返回值传给 {@link #end(boolean)}，
+     * 这样区段进行中开关埋点也不会出现不配对的endSection
+     */
+    static boolean begin(@NonNull String section) {
+        if (enabled) {
+            Trace.beginSection(section);
+            return true;
+        }
+        return false;
+    }
+
+    static void end(boolean began) {
+        if (began) {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * 计数器（Android 10及以上）
+     */
+    static void counter(@NonNull String name, long value) {
+        if (enabled && Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.setCounter(name, value);
+        }
+    }
+}
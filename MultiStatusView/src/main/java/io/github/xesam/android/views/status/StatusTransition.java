@@ -0,0 +1,166 @@
+package io.github.xesam.android.views.status;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewPropertyAnimator;
+
+import androidx.annotation.NonNull;
+
+import io.github.xesam.android.status.R;
+
+/**
+ * 带过渡动画的状态切换策略：淡入淡出（crossfade）、先出后入（fade-through）、滑动（slide）
+ * <p>
+ * 动画通过ViewPropertyAnimator在硬件层（withLayer）上执行；切出的视图在动画结束后才设置为GONE。
+ * 动画进行中再次切换时，会从视图当前的透明度、位移继续过渡到新的目标，不会跳变。
+ * 结束回调按视图缓存，首次切换之后库本身不再分配对象；ViewPropertyAnimator自身仍会分配
+ * （withLayer()创建Runnable，start()创建ValueAnimator），因此无法做到切换完全不分配。
+ * 容器尚未attach到窗口或尚未完成布局时直接切换，不执行动画
+ */
+public final class StatusTransition implements StatusSwitchStrategy {
+
+    public static final long DEFAULT_DURATION = 250;
+
+    private static final int CROSSFADE = 0;
+    private static final int FADE_THROUGH = 1;
+    private static final int SLIDE = 2;
+    private static final float FADE_THROUGH_SCALE = 0.92f;
+
+    private final int type;
+    private final long duration;
+
+    private StatusTransition(int type, long duration) {
+        this.type = type;
+        this.duration = duration;
+    }
+
+    /**
+     * 新旧视图同时淡入淡出
+     */
+    @NonNull
+    public static StatusTransition crossfade() {
+        return crossfade(DEFAULT_DURATION);
+    }
+
+    @NonNull
+    public static StatusTransition crossfade(long durationMillis) {
+        return new StatusTransition(CROSSFADE, durationMillis);
+    }
+
+    /**
+     * 旧视图先淡出，新视图随后淡入并轻微放大
+     */
+    @NonNull
+    public static StatusTransition fadeThrough() {
+        return fadeThrough(DEFAULT_DURATION);
+    }
+
+    @NonNull
+    public static StatusTransition fadeThrough(long durationMillis) {
+        return new StatusTransition(FADE_THROUGH, durationMillis);
+    }
+
+    /**
+     * 旧视图向左滑出，新视图从右侧滑入
+     */
+    @NonNull
+    public static StatusTransition slide() {
+        return slide(DEFAULT_DURATION);
+    }
+
+    @NonNull
+    public static StatusTransition slide(long durationMillis) {
+        return new StatusTransition(SLIDE, durationMillis);
+    }
+
+    @Override
+    public void show(@NonNull ViewGroup container, @NonNull View view) {
+        // 取消进行中的动画（包括尚未执行的隐藏回调），从当前值继续过渡
+        view.animate().cancel();
+        if (!canAnimate(container)) {
+            reset(view);
+            view.setVisibility(View.VISIBLE);
+            return;
+        }
+        if (view.getVisibility() != View.VISIBLE) {
+            view.setAlpha(0f);
+            if (type == SLIDE) {
+                view.setTranslationX(container.getWidth());
+            } else if (type == FADE_THROUGH) {
+                view.setScaleX(FADE_THROUGH_SCALE);
+                view.setScaleY(FADE_THROUGH_SCALE);
+            }
+            view.setVisibility(View.VISIBLE);
+        }
+        ViewPropertyAnimator animator = view.animate()
+                .alpha(1f)
+                .setStartDelay(type == FADE_THROUGH ? duration / 2 : 0)
+                .setDuration(type == FADE_THROUGH ? duration / 2 : duration);
+        if (type == SLIDE) {
+            animator.translationX(0f);
+        } else if (type == FADE_THROUGH) {
+            animator.scaleX(1f).scaleY(1f);
+        }
+        animator.withLayer().start();
+    }
+
+    @Override
+    public void hide(@NonNull ViewGroup container, @NonNull View view) {
+        view.animate().cancel();
+        if (view.getVisibility() != View.VISIBLE) {
+            return;
+        }
+        // 尚未布局过的视图（例如刚膨胀）直接隐藏
+        if (!canAnimate(container) || view.getWidth() == 0) {
+            reset(view);
+            view.setVisibility(View.GONE);
+            return;
+        }
+        ViewPropertyAnimator animator = view.animate()
+                .alpha(0f)
+                .setStartDelay(0)
+                .setDuration(type == FADE_THROUGH ? duration / 2 : duration);
+        if (type == SLIDE) {
+            animator.translationX(-container.getWidth());
+        }
+        animator.withLayer().withEndAction(hideEndAction(view)).start();
+    }
+
+    private static boolean canAnimate(ViewGroup container) {
+        return container.isAttachedToWindow() && container.getWidth() > 0;
+    }
+
+    private static HideEndAction hideEndAction(View view) {
+        Object tag = view.getTag(R.id.msv_transition);
+        if (tag instanceof HideEndAction) {
+            return (HideEndAction) tag;
+        }
+        HideEndAction action = new HideEndAction(view);
+        view.setTag(R.id.msv_transition, action);
+        return action;
+    }
+
+    private static void reset(View view) {
+        view.setAlpha(1f);
+        view.setTranslationX(0f);
+        view.setScaleX(1f);
+        view.setScaleY(1f);
+    }
+
+    /**
+     * 隐藏动画结束后设置为GONE并恢复属性，被取消时不会执行
+     */
+    private static final class HideEndAction implements Runnable {
+        private final View view;
+
+        HideEndAction(View view) {
+            this.view = view;
+        }
+
+        @Override
+        public void run() {
+            view.setVisibility(View.GONE);
+            reset(view);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.xesam.android.views.status;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatusTransitionModel 记录状态切换（旧状态→新状态）的频次，用于预测下一个最可能出现的状态
+ * <p>
+ * 状态名映射为连续下标，频次保存在一个n×n的int数组中；任一频次达到上限时所有频次减半，
+ * 使模型逐步偏向近期的切换习惯
+ * <p>
+ * 同一实例可以被多个MultiStatusHelper共享（例如使用相同布局的一组页面），只能在主线程中使用
+ */
+public final class StatusTransitionModel {
+
+    private static final int MAX_COUNT = 0xFFFF;
+    private static final int DEFAULT_MIN_COUNT = 2;
+
+    private final Map<String, Integer> statusIndexes = new HashMap<>();
+    private final List<String> statuses = new ArrayList<>();
+    private int[] counts = new int[0];
+    private int capacity = 0;
+    private int minCount = DEFAULT_MIN_COUNT;
+
+    /**
+     * 设置参与预测的最小切换次数，低于该次数的切换不会被预测
+     */
+    public void setMinCount(int minCount) {
+        this.minCount = minCount;
+    }
+
+    /**
+     * 记录一次状态切换
+     */
+    public void record(@NonNull String oldStatus, @NonNull String newStatus) {
+        int from = indexOf(oldStatus);
+        int to = indexOf(newStatus);
+        int index = from * capacity + to;
+        if (++counts[index] >= MAX_COUNT) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] >>= 1;
+            }
+        }
+    }
+
+    /**
+     * 预测从指定状态出发最可能切换到的状态
+     *
+     * @return 预测的状态，没有足够的切换记录时返回null
+     */
+    @Nullable
+    public String predictNext(@NonNull String status) {
+        Integer from = statusIndexes.get(status);
+        if (from == null) {
+            return null;
+        }
+        int best = -1;
+        int bestCount = minCount - 1;
+        int offset = from * capacity;
+        for (int to = 0; to < statuses.size(); to++) {
+            if (to != from && counts[offset + to] > bestCount) {
+                best = to;
+                bestCount = counts[offset + to];
+            }
+        }
+        return best >= 0 ? statuses.get(best) : null;
+    }
+
+    /**
+     * 获取指定切换的记录次数
+     */
+    public int getTransitionCount(@NonNull String oldStatus, @NonNull String newStatus) {
+        Integer from = statusIndexes.get(oldStatus);
+        Integer to = statusIndexes.get(newStatus);
+        if (from == null || to == null) {
+            return 0;
+        }
+        return counts[from * capacity + to];
+    }
+
+    /**
+     * 清除所有切换记录
+     */
+    public void clear() {
+        statusIndexes.clear();
+        statuses.clear();
+        counts = new int[0];
+        capacity = 0;
+    }
+
+    private int indexOf(String status) {
+        Integer index = statusIndexes.get(status);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = statuses.size();
+        if (newIndex >= capacity) {
+            grow(Math.max(4, capacity * 2));
+        }
+        statuses.add(status);
+        statusIndexes.put(status, newIndex);
+        return newIndex;
+    }
+
+    private void grow(int newCapacity) {
+        int[] newCounts = new int[newCapacity * newCapacity];
+        for (int row = 0; row < capacity; row++) {
+            System.arraycopy(counts, row * capacity, newCounts, row * newCapacity, capacity);
+        }
+        counts = newCounts;
+        capacity = newCapacity;
+    }
+}
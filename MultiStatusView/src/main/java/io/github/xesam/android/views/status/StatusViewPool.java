@@ -0,0 +1,203 @@
+package io.github.xesam.android.views.status;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * StatusViewPool 是按布局资源缓存状态视图的视图池
+ * <p>
+ * 多个MultiStatusHelper可以共享同一个视图池：释放的状态视图按布局资源归还到池中，
+ * 其他使用相同布局资源的Helper可以直接取用，避免重复膨胀
+ * <p>
+ * 视图只会被交给Context相同的Helper，以免跨Activity复用导致主题错乱，因此复用发生在同一个Activity内部
+ * （例如多个Fragment、列表行之间）。正在结束或重建的Activity的视图不会进入视图池，
+ * Activity销毁时其视图会被自动清除，也可以通过 {@link #clear(Context)} 主动清除
+ * 视图池只能在主线程中使用
+ */
+public final class StatusViewPool {
+
+    private static final int DEFAULT_MAX_RECYCLED_VIEWS = 3;
+
+    private static final StatusViewPool DEFAULT = new StatusViewPool();
+
+    private final SparseArray<ArrayList<View>> recycledViews = new SparseArray<>();
+    private final SparseIntArray maxRecycledViews = new SparseIntArray();
+    private int defaultMaxRecycledViews = DEFAULT_MAX_RECYCLED_VIEWS;
+    private boolean activityCallbacksRegistered = false;
+
+    // Activity销毁时清除该Activity的视图，避免视图池持有已销毁的Activity
+    private final Application.ActivityLifecycleCallbacks activityCallbacks = new Application.ActivityLifecycleCallbacks() {
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+        }
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {
+            clear(activity);
+        }
+    };
+
+    /**
+     * 获取进程级共享的默认视图池，视图只在同一个Activity内复用
+     */
+    @NonNull
+    public static StatusViewPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 设置每个布局资源默认缓存的最大视图数量
+     */
+    public void setDefaultMaxRecycledViews(int max) {
+        defaultMaxRecycledViews = max;
+    }
+
+    /**
+     * 设置指定布局资源缓存的最大视图数量，超出的视图会被丢弃
+     */
+    public void setMaxRecycledViews(@LayoutRes int layoutRes, int max) {
+        maxRecycledViews.put(layoutRes, max);
+        ArrayList<View> views = recycledViews.get(layoutRes);
+        if (views != null) {
+            while (views.size() > max) {
+                views.remove(views.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * 获取指定布局资源当前缓存的视图数量
+     */
+    public int getRecycledViewCount(@LayoutRes int layoutRes) {
+        ArrayList<View> views = recycledViews.get(layoutRes);
+        return views != null ? views.size() : 0;
+    }
+
+    /**
+     * 取出一个可供指定Context使用的视图，没有可用视图时返回null
+     */
+    @Nullable
+    public View acquire(@LayoutRes int layoutRes, @NonNull Context context) {
+        ArrayList<View> views = recycledViews.get(layoutRes);
+        if (views == null) {
+            return null;
+        }
+        for (int i = views.size() - 1; i >= 0; i--) {
+            if (views.get(i).getContext() == context) {
+                return views.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 归还视图，视图必须已从父容器中移除
+     *
+     * @return 是否被视图池接收，数量达到上限、视图仍有父容器或所属Activity正在结束时返回false
+     */
+    public boolean release(@LayoutRes int layoutRes, @NonNull View view) {
+        if (view.getParent() != null) {
+            return false;
+        }
+        Activity activity = findActivity(view.getContext());
+        if (activity != null) {
+            if (!isActivityAlive(activity)) {
+                return false;
+            }
+            registerActivityCallbacks(activity);
+        }
+        ArrayList<View> views = recycledViews.get(layoutRes);
+        if (views == null) {
+            views = new ArrayList<>();
+            recycledViews.put(layoutRes, views);
+        }
+        if (views.size() >= maxRecycledViews.get(layoutRes, defaultMaxRecycledViews) || views.contains(view)) {
+            return false;
+        }
+        views.add(view);
+        return true;
+    }
+
+    /**
+     * 清空视图池
+     */
+    public void clear() {
+        recycledViews.clear();
+    }
+
+    /**
+     * 清除属于指定Context（所在Activity）的视图
+     */
+    public void clear(@NonNull Context context) {
+        Activity activity = findActivity(context);
+        for (int i = 0; i < recycledViews.size(); i++) {
+            ArrayList<View> views = recycledViews.valueAt(i);
+            for (int j = views.size() - 1; j >= 0; j--) {
+                Context viewContext = views.get(j).getContext();
+                if (viewContext == context || (activity != null && findActivity(viewContext) == activity)) {
+                    views.remove(j);
+                }
+            }
+        }
+    }
+
+    private void registerActivityCallbacks(@NonNull Activity activity) {
+        if (!activityCallbacksRegistered) {
+            activityCallbacksRegistered = true;
+            activity.getApplication().registerActivityLifecycleCallbacks(activityCallbacks);
+        }
+    }
+
+    /**
+     * Activity是否会继续使用，正在结束、已销毁或因配置变化重建时返回false
+     */
+    static boolean isActivityAlive(@NonNull Activity activity) {
+        return !activity.isFinishing() && !activity.isDestroyed() && !activity.isChangingConfigurations();
+    }
+
+    /**
+     * 查找Context所属的Activity，不属于任何Activity时返回null
+     */
+    @Nullable
+    static Activity findActivity(@Nullable Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return (Activity) context;
+            }
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.xesam.android.views.status;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertSame;
+
+/**
+ * RowStatusStore基于SparseIntArray，需要在Robolectric中运行
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class RowStatusStoreTest {
+
+    private static final StatusKey CONTENT = StatusKey.of("content");
+    private static final StatusKey LOADING = StatusKey.of("loading");
+    private static final StatusKey ERROR = StatusKey.of("error");
+    private static final StatusKey EMPTY = StatusKey.of("empty");
+
+    private RowStatusStore store;
+
+    @Before
+    public void setUp() {
+        store = new RowStatusStore("content");
+    }
+
+    @Test
+    public void getStatus_defaultsForUnsetRows() {
+        store.setStatus(2, LOADING);
+
+        assertSame(CONTENT, store.getStatus(0));
+        assertSame(LOADING, store.getStatus(2));
+    }
+
+    @Test
+    public void setStatus_defaultClearsRow() {
+        store.setStatus(1, ERROR);
+        store.setStatus(1, "content");
+
+        assertSame(CONTENT, store.getStatus(1));
+    }
+
+    @Test
+    public void onItemRangeInserted_shiftsRowsAtAndAfterStart() {
+        store.setStatus(1, LOADING);
+        store.setStatus(3, ERROR);
+        store.setStatus(5, EMPTY);
+
+        store.onItemRangeInserted(3, 2);
+
+        assertStatuses(CONTENT, LOADING, CONTENT, CONTENT, CONTENT, ERROR, CONTENT, EMPTY);
+    }
+
+    @Test
+    public void onItemRangeRemoved_dropsRemovedRowsAndShiftsRest() {
+        store.setStatus(1, LOADING);
+        store.setStatus(2, ERROR);
+        store.setStatus(3, EMPTY);
+        store.setStatus(5, LOADING);
+
+        store.onItemRangeRemoved(2, 2);
+
+        assertStatuses(CONTENT, LOADING, CONTENT, LOADING, CONTENT, CONTENT);
+    }
+
+    @Test
+    public void onItemRangeMoved_down() {
+        // 0:loading 1:error 2:content 3:empty，把第0行移动到第2行
+        store.setStatus(0, LOADING);
+        store.setStatus(1, ERROR);
+        store.setStatus(3, EMPTY);
+
+        store.onItemRangeMoved(0, 2, 1);
+
+        assertStatuses(ERROR, CONTENT, LOADING, EMPTY);
+    }
+
+    @Test
+    public void onItemRangeMoved_up() {
+        // 0:loading 1:error 2:content 3:empty，把第3行移动到第1行
+        store.setStatus(0, LOADING);
+        store.setStatus(1, ERROR);
+        store.setStatus(3, EMPTY);
+
+        store.onItemRangeMoved(3, 1, 1);
+
+        assertStatuses(LOADING, EMPTY, ERROR, CONTENT);
+    }
+
+    @Test
+    public void onItemRangeMoved_rangeOverlappingStoredRows() {
+        // 把第1~2行整体移动到第3行，与其后的行交换位置
+        store.setStatus(1, LOADING);
+        store.setStatus(2, ERROR);
+        store.setStatus(3, EMPTY);
+
+        store.onItemRangeMoved(1, 3, 2);
+
+        assertStatuses(CONTENT, EMPTY, CONTENT, LOADING, ERROR);
+    }
+
+    @Test
+    public void onItemRangeMoved_rangeMovedUpOverStoredRows() {
+        store.setStatus(0, EMPTY);
+        store.setStatus(3, LOADING);
+        store.setStatus(4, ERROR);
+
+        store.onItemRangeMoved(3, 0, 2);
+
+        assertStatuses(LOADING, ERROR, EMPTY, CONTENT, CONTENT);
+    }
+
+    @Test
+    public void clear_resetsAllRows() {
+        store.setStatus(0, LOADING);
+        store.clear();
+
+        assertSame(CONTENT, store.getStatus(0));
+    }
+
+    private void assertStatuses(StatusKey... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            assertSame("position " + i, expected[i], store.getStatus(i));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.xesam.android.views.status;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class StatusBinderTest {
+
+    @Test
+    public void payloadBeforeCreateIsBoundOnCreate() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.setPayload("a");
+
+        assertEquals(0, binder.bound.size());
+
+        binder.onViewCreated(null);
+        assertEquals(Arrays.asList("a"), binder.bound);
+    }
+
+    @Test
+    public void noPayloadMeansNoBind() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.onViewCreated(null);
+
+        assertEquals(1, binder.created);
+        assertEquals(0, binder.bound.size());
+    }
+
+    @Test
+    public void equalPayloadIsSkipped() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.onViewCreated(null);
+        binder.setPayload("a");
+        binder.setPayload(new String("a"));
+        binder.setPayload("b");
+
+        assertEquals(Arrays.asList("a", "b"), binder.bound);
+    }
+
+    @Test
+    public void nullPayloadIsBoundOnceAndDistinctFromNone() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.onViewCreated(null);
+        binder.setPayload(null);
+        binder.setPayload(null);
+        binder.setPayload("a");
+        binder.setPayload(null);
+
+        assertEquals(Arrays.asList(null, "a", null), binder.bound);
+    }
+
+    @Test
+    public void releasedViewIsNotBoundUntilRecreated() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.onViewCreated(null);
+        binder.setPayload("a");
+        binder.onViewReleased();
+        binder.setPayload("b");
+
+        assertEquals(Arrays.asList("a"), binder.bound);
+
+        binder.onViewCreated(null);
+        assertEquals(Arrays.asList("a", "b"), binder.bound);
+    }
+
+    @Test
+    public void recreatedViewIsReboundWithSamePayload() {
+        RecordingBinder binder = new RecordingBinder();
+        binder.onViewCreated(null);
+        binder.setPayload("a");
+        binder.onViewReleased();
+        binder.onViewCreated(null);
+
+        assertEquals(2, binder.created);
+        assertEquals(Arrays.asList("a", "a"), binder.bound);
+    }
+
+    private static final class RecordingBinder extends StatusBinder<String> {
+        int created;
+        final List<String> bound = new ArrayList<>();
+
+        @Override
+        protected void onCreate(View view) {
+            created++;
+        }
+
+        @Override
+        protected void onBind(String payload) {
+            bound.add(payload);
+        }
+    }
+}
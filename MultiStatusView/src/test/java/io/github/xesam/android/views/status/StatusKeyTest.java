@@ -0,0 +1,59 @@
+package io.github.xesam.android.views.status;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 状态键是进程级的，每个用例使用各自唯一的状态名
+ */
+public class StatusKeyTest {
+
+    @Test
+    public void of_returnsSameInstanceForSameName() {
+        StatusKey first = StatusKey.of("StatusKeyTest.same");
+        StatusKey second = StatusKey.of(new String("StatusKeyTest.same"));
+
+        assertSame(first, second);
+        assertEquals("StatusKeyTest.same", first.getName());
+    }
+
+    @Test
+    public void of_assignsConsecutiveIds() {
+        StatusKey first = StatusKey.of("StatusKeyTest.id1");
+        StatusKey second = StatusKey.of("StatusKeyTest.id2");
+
+        assertNotSame(first, second);
+        assertEquals(first.getId() + 1, second.getId());
+    }
+
+    @Test
+    public void find_doesNotCreateKey() {
+        assertNull(StatusKey.find("StatusKeyTest.unknown"));
+        assertNull(StatusKey.find("StatusKeyTest.unknown"));
+
+        StatusKey key = StatusKey.of("StatusKeyTest.unknown");
+        assertSame(key, StatusKey.find("StatusKeyTest.unknown"));
+    }
+
+    @Test
+    public void find_doesNotConsumeIds() {
+        StatusKey before = StatusKey.of("StatusKeyTest.before");
+        StatusKey.find("StatusKeyTest.lookupOnly");
+        StatusKey after = StatusKey.of("StatusKeyTest.after");
+
+        assertEquals(before.getId() + 1, after.getId());
+    }
+
+    @Test
+    public void fromId_returnsKeyOrNull() {
+        StatusKey key = StatusKey.of("StatusKeyTest.fromId");
+
+        assertSame(key, StatusKey.fromId(key.getId()));
+        assertNull(StatusKey.fromId(-1));
+        assertNull(StatusKey.fromId(Integer.MAX_VALUE));
+    }
+}
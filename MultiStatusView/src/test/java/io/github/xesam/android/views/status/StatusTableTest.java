@@ -0,0 +1,81 @@
+package io.github.xesam.android.views.status;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StatusTableTest {
+
+    @Test
+    public void putAndGet() {
+        StatusTable<String> table = new StatusTable<>();
+        StatusKey key = StatusKey.of("StatusTableTest.putAndGet");
+
+        assertNull(table.get(key));
+        table.put(key, "a");
+        table.put(key, "b");
+
+        assertEquals("b", table.get(key));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void put_growsForLargeIds() {
+        StatusTable<String> table = new StatusTable<>();
+        StatusKey last = null;
+        for (int i = 0; i < 40; i++) {
+            last = StatusKey.of("StatusTableTest.grow" + i);
+            table.put(last, "v" + i);
+        }
+
+        assertEquals(40, table.size());
+        assertEquals("v39", table.get(last));
+        assertEquals("v0", table.get(StatusKey.of("StatusTableTest.grow0")));
+    }
+
+    @Test
+    public void keysKeepInsertionOrder() {
+        StatusTable<String> table = new StatusTable<>();
+        StatusKey b = StatusKey.of("StatusTableTest.orderB");
+        StatusKey a = StatusKey.of("StatusTableTest.orderA");
+        table.put(a, "a");
+        table.put(b, "b");
+
+        assertSame(a, table.keyAt(0));
+        assertSame(b, table.keyAt(1));
+        assertEquals("b", table.valueAt(1));
+    }
+
+    @Test
+    public void remove_compactsKeys() {
+        StatusTable<String> table = new StatusTable<>();
+        StatusKey first = StatusKey.of("StatusTableTest.remove1");
+        StatusKey second = StatusKey.of("StatusTableTest.remove2");
+        StatusKey third = StatusKey.of("StatusTableTest.remove3");
+        table.put(first, "1");
+        table.put(second, "2");
+        table.put(third, "3");
+
+        assertEquals("2", table.remove(second));
+        assertNull(table.remove(second));
+
+        assertEquals(2, table.size());
+        assertSame(first, table.keyAt(0));
+        assertSame(third, table.keyAt(1));
+        assertNull(table.get(second));
+    }
+
+    @Test
+    public void get_keyBeyondCapacityReturnsNull() {
+        StatusTable<String> table = new StatusTable<>();
+        StatusKey key = null;
+        for (int i = 0; i < 20; i++) {
+            key = StatusKey.of("StatusTableTest.beyond" + i);
+        }
+
+        assertNull(table.get(key));
+        assertNull(table.remove(key));
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.xesam.android.views.status;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StatusTransitionModelTest {
+
+    @Test
+    public void predictNext_returnsMostFrequentTransition() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "content", 5);
+        record(model, "loading", "error", 2);
+
+        assertEquals("content", model.predictNext("loading"));
+    }
+
+    @Test
+    public void predictNext_requiresMinCount() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        model.record("loading", "error");
+
+        assertNull(model.predictNext("loading"));
+
+        model.setMinCount(1);
+        assertEquals("error", model.predictNext("loading"));
+    }
+
+    @Test
+    public void predictNext_unknownStatusReturnsNull() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "content", 3);
+
+        assertNull(model.predictNext("empty"));
+        assertNull(model.predictNext("content"));
+    }
+
+    @Test
+    public void predictNext_ignoresSelfTransition() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "loading", 10);
+        record(model, "loading", "content", 2);
+
+        assertEquals("content", model.predictNext("loading"));
+    }
+
+    @Test
+    public void record_keepsCountsWhenGrowing() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "s0", "s1", 3);
+        for (int i = 2; i < 10; i++) {
+            model.record("s" + (i - 1), "s" + i);
+        }
+
+        assertEquals(3, model.getTransitionCount("s0", "s1"));
+        assertEquals(1, model.getTransitionCount("s8", "s9"));
+        assertEquals(0, model.getTransitionCount("s9", "s0"));
+    }
+
+    @Test
+    public void record_halvesAllCountsAtLimit() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "error", 7);
+        record(model, "loading", "content", 0xFFFF);
+
+        assertEquals(0x7FFF, model.getTransitionCount("loading", "content"));
+        assertEquals(3, model.getTransitionCount("loading", "error"));
+    }
+
+    @Test
+    public void record_halvingLetsRecentTransitionsWin() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "error", 0xFFFF - 1);
+        record(model, "loading", "content", 0x7FFF);
+        // 再次达到上限，之前的记录继续减半
+        record(model, "loading", "error", 1);
+        record(model, "loading", "content", 0x7FFF + 1);
+
+        assertEquals("content", model.predictNext("loading"));
+    }
+
+    @Test
+    public void clear_removesAllRecords() {
+        StatusTransitionModel model = new StatusTransitionModel();
+        record(model, "loading", "content", 3);
+        model.clear();
+
+        assertEquals(0, model.getTransitionCount("loading", "content"));
+        assertNull(model.predictNext("loading"));
+    }
+
+    private static void record(StatusTransitionModel model, String from, String to, int times) {
+        for (int i = 0; i < times; i++) {
+            model.record(from, to);
+        }
+    }
+}
@@ -19,6 +19,8 @@ class XmlEmbeddedActivity : AppCompatActivity() {
         super.onCreate(savedInstanceState)
         binding = ActivityXmlEmbeddedBinding.inflate(layoutInflater)
         setContentView(binding.root)
+        // 状态表由MultiStatusView-registry插件在构建时根据布局生成
+        binding.multiStatusView.registerStatuses(ActivityXmlEmbeddedStatusRegistry.REGISTRY)
 
         setupToolbar()
         setupListeners()